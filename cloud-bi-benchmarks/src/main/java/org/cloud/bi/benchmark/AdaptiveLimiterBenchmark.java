@@ -0,0 +1,76 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.web.limiter.AdaptiveLimiter;
+import org.cloud.web.properties.WebStarterProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 描述：自适应并发限制的模拟测试。模拟的后端容量为 20 个并发，超过容量后延迟随并发数线性增长，
+ * 对比开启与关闭限制时 64 个并发调用方的吞吐量与延迟（开启时被拒绝的调用计入 rejected）
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(64)
+@Fork(1)
+public class AdaptiveLimiterBenchmark {
+
+    private static final int BACKEND_CAPACITY = 20;
+    private static final long BASE_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    @Param({"true", "false"})
+    private boolean limited;
+
+    private final AtomicInteger backendInflight = new AtomicInteger();
+    private AdaptiveLimiter limiter;
+
+    @Setup
+    public void setup() {
+        limiter = new AdaptiveLimiter(new WebStarterProperties.ExecutorPool.Limiter());
+    }
+
+    /**
+     * 被拒绝的调用次数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long rejected;
+    }
+
+    @Benchmark
+    public void call(Counters counters) {
+        if (!limited) {
+            backend();
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            counters.rejected++;
+            return;
+        }
+        var start = System.nanoTime();
+        backend();
+        limiter.release(System.nanoTime() - start, false);
+    }
+
+    /**
+     * 模拟的后端，超过容量后延迟随并发数线性增长
+     */
+    private void backend() {
+        var inflight = backendInflight.incrementAndGet();
+        try {
+            var factor = Math.max(1.0, (double) inflight / BACKEND_CAPACITY);
+            LockSupport.parkNanos((long) (BASE_LATENCY_NANOS * factor));
+        } finally {
+            backendInflight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.web.utils.AsyncUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：AsyncUtil.async 经过 ContextTaskDecorator 的调度开销，以未装饰的线程池作为对照
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncUtilBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService plainExecutor;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start();
+        plainExecutor = Executors.newFixedThreadPool(10);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plainExecutor.shutdownNow();
+        context.close();
+    }
+
+    /**
+     * 模拟请求线程，绑定请求上下文
+     */
+    @State(Scope.Thread)
+    public static class RequestState {
+        @Setup
+        public void bind() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        }
+
+        @TearDown
+        public void reset() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public Integer plainExecutor() {
+        return CompletableFuture.supplyAsync(() -> 1, plainExecutor).join();
+    }
+
+    @Benchmark
+    public Integer asyncSupplier(RequestState request) {
+        return AsyncUtil.async(() -> 1).join();
+    }
+
+    @Benchmark
+    public Void asyncRunnable(RequestState request) {
+        return AsyncUtil.async(() -> {
+        }).join();
+    }
+}
@@ -0,0 +1,130 @@
+package org.cloud.bi.benchmark;
+
+import com.github.pagehelper.Page;
+import org.cloud.bi.benchmark.entity.Fact;
+import org.cloud.bi.benchmark.service.FactService;
+import org.cloud.bi.dao.batch.UpsertResult;
+import org.cloud.bi.dao.page.CountMode;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 描述：BaseService 增删改查以及分页查询的基准测试，数据源为 H2 内存数据库
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseServiceBenchmark {
+
+    private static final int ROWS = 10000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SYNC_SIZE = 100;
+
+    private final AtomicLong sequence = new AtomicLong(ROWS);
+    private ConfigurableApplicationContext context;
+    private FactService factService;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start();
+        factService = context.getBean(FactService.class);
+        var facts = new ArrayList<Fact>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            facts.add(fact(i));
+        }
+        factService.saveByList(facts);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Fact> findById() {
+        return factService.findById(randomId());
+    }
+
+    @Benchmark
+    public Page<Fact> findListByPage() {
+        return factService.findListByPage(randomPage(), PAGE_SIZE, Map.of("category", "category-1"), CountMode.EXACT);
+    }
+
+    @Benchmark
+    public Page<Fact> findListByPageWithoutCount() {
+        return factService.findListByPage(randomPage(), PAGE_SIZE, Map.of("category", "category-1"), CountMode.NONE);
+    }
+
+    @Benchmark
+    public int modify() {
+        var fact = fact(randomId());
+        fact.setAmount(ThreadLocalRandom.current().nextLong());
+        return factService.modify(fact);
+    }
+
+    @Benchmark
+    public int saveAndRemove() {
+        var id = sequence.incrementAndGet();
+        return factService.save(fact(id)) + factService.removeById(id);
+    }
+
+    /**
+     * 逐条查询后保存或修改，每条数据两次往返
+     */
+    @Benchmark
+    @OperationsPerInvocation(SYNC_SIZE)
+    public int syncByFindThenWrite() {
+        var rows = 0;
+        for (var fact : syncFacts()) {
+            rows += factService.findById(fact.getId()).isPresent() ? factService.modify(fact) : factService.save(fact);
+        }
+        return rows;
+    }
+
+    /**
+     * 以一条多行的 upsert 语句同步
+     */
+    @Benchmark
+    @OperationsPerInvocation(SYNC_SIZE)
+    public UpsertResult syncByUpsert() {
+        return factService.upsertByList(syncFacts());
+    }
+
+    /**
+     * 同步的数据，一半为已有数据，一半为新数据
+     */
+    private List<Fact> syncFacts() {
+        var facts = new ArrayList<Fact>(SYNC_SIZE);
+        for (var i = 0; i < SYNC_SIZE; i++) {
+            var fact = fact(i % 2 == 0 ? randomId() : sequence.incrementAndGet());
+            fact.setAmount(ThreadLocalRandom.current().nextLong());
+            facts.add(fact);
+        }
+        return facts;
+    }
+
+    private static Fact fact(long id) {
+        return new Fact(id, "category-" + (id % 5), "name-" + id, id * 100);
+    }
+
+    private static long randomId() {
+        return ThreadLocalRandom.current().nextLong(ROWS);
+    }
+
+    private static int randomPage() {
+        return ThreadLocalRandom.current().nextInt(ROWS / 5 / PAGE_SIZE) + 1;
+    }
+}
@@ -0,0 +1,31 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.web.utils.AsyncUtil;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 描述：基准测试使用的 Spring 应用，数据源为 H2 内存数据库
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@MapperScan("org.cloud.bi.benchmark.mapper")
+@SpringBootApplication(scanBasePackageClasses = {BenchmarkApplication.class, AsyncUtil.class})
+public class BenchmarkApplication {
+
+    /**
+     * 启动非 Web 的应用上下文，由基准测试在 @Setup 中调用，@TearDown 中关闭
+     *
+     * @param args 额外的启动参数，如：--cloud-bi-dao.count-cache.enabled=true
+     * @return 应用上下文
+     */
+    public static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args);
+    }
+}
@@ -0,0 +1,101 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.web.configurations.ContextTaskDecorator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：上下文传递的包装及执行开销，对比 ContextTaskDecorator 一次捕获 RequestAttributes、MDC、Locale
+ * 与逐层叠加三个 TaskDecorator（每层各自捕获、包装一次任务）
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextPropagationBenchmark {
+
+    private TaskDecorator contextTaskDecorator;
+    private TaskDecorator stackedDecorator;
+
+    @Setup
+    public void setup() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        MDC.put("traceId", "0af7651916cd43dd8448eb211c80319c");
+        LocaleContextHolder.setLocale(Locale.SIMPLIFIED_CHINESE);
+        contextTaskDecorator = new ContextTaskDecorator();
+        stackedDecorator = runnable -> requestAttributes(mdc(locale(runnable)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        MDC.clear();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    /**
+     * 包装并在当前线程执行任务，只统计上下文捕获、恢复与还原的开销
+     */
+    @Benchmark
+    public void contextTaskDecorator(Blackhole blackhole) {
+        contextTaskDecorator.decorate(() -> blackhole.consume(MDC.get("traceId"))).run();
+    }
+
+    @Benchmark
+    public void stackedDecorators(Blackhole blackhole) {
+        stackedDecorator.decorate(() -> blackhole.consume(MDC.get("traceId"))).run();
+    }
+
+    //------------------------------- 逐层叠加的包装器，每层各自捕获上下文并在执行后还原原有的上下文 -------------------------------//
+    private static Runnable requestAttributes(Runnable runnable) {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+        return () -> {
+            var previous = RequestContextHolder.getRequestAttributes();
+            try {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                runnable.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        };
+    }
+
+    private static Runnable mdc(Runnable runnable) {
+        var context = MDC.getCopyOfContextMap();
+        return () -> {
+            var previous = MDC.getCopyOfContextMap();
+            try {
+                MDC.setContextMap(context);
+                runnable.run();
+            } finally {
+                MDC.setContextMap(previous);
+            }
+        };
+    }
+
+    private static Runnable locale(Runnable runnable) {
+        var localeContext = LocaleContextHolder.getLocaleContext();
+        return () -> {
+            var previous = LocaleContextHolder.getLocaleContext();
+            try {
+                LocaleContextHolder.setLocaleContext(localeContext);
+                runnable.run();
+            } finally {
+                LocaleContextHolder.setLocaleContext(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.web.constants.GenericStatusCode;
+import org.cloud.web.constants.ResultRtn;
+import org.cloud.web.exception.BaseException;
+import org.cloud.web.exception.LogRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：业务异常路径的吞吐量：抛出、捕获、构建失败响应。对比普通 BaseException 与不填充堆栈的轻量级异常，
+ * 以及全局异常处理器中按错误码的日志限流判断开销
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionPathBenchmark {
+
+    private final LogRateLimiter<GenericStatusCode> logRateLimiter = new LogRateLimiter<>(Duration.ofSeconds(1), 10);
+
+    @Param({"false", "true"})
+    private boolean lightweight;
+
+    /**
+     * 模拟业务代码中较深的调用栈
+     */
+    @Param({"10", "50"})
+    private int depth;
+
+    @Benchmark
+    public ResultRtn<Void> throwAndHandle() {
+        try {
+            validate(depth);
+            return ResultRtn.success();
+        } catch (BaseException e) {
+            return ResultRtn.fail(e.getGenericStatusCode(), e);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long logRateLimit() {
+        return logRateLimiter.tryAcquire(GenericStatusCode.PARAM_VALIDATE_EXCEPTION);
+    }
+
+    private void validate(int remaining) {
+        if (remaining > 0) {
+            validate(remaining - 1);
+            return;
+        }
+        throw lightweight ? BaseException.lightweight(GenericStatusCode.PARAM_VALIDATE_EXCEPTION)
+                : new BaseException(GenericStatusCode.PARAM_VALIDATE_EXCEPTION);
+    }
+}
@@ -0,0 +1,67 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.web.configurations.AsyncExecutorFactory;
+import org.cloud.web.properties.WebStarterProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：不同执行器模式下 10000 个并发阻塞任务的吞吐量，每个任务阻塞 10 毫秒模拟数据库调用
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ExecutorModeBenchmark {
+
+    private static final int TASKS = 10000;
+    private static final long BLOCKING_MILLIS = 10;
+
+    @Param({"PLATFORM", "VIRTUAL", "FORK_JOIN"})
+    private WebStarterProperties.ExecutorPool.Mode mode;
+
+    private Executor executor;
+
+    @Setup
+    public void setup() {
+        var poolConfig = new WebStarterProperties.ExecutorPool();
+        poolConfig.setMode(mode);
+        executor = AsyncExecutorFactory.create(poolConfig);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (executor instanceof DisposableBean) {
+            ((DisposableBean) executor).destroy();
+        }
+    }
+
+    /**
+     * 提交并等待 10000 个阻塞任务完成，结果为每秒完成的任务数
+     */
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void blockingTasks() {
+        var futures = new CompletableFuture<?>[TASKS];
+        for (var i = 0; i < TASKS; i++) {
+            futures[i] = CompletableFuture.runAsync(ExecutorModeBenchmark::block, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static void block() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(BLOCKING_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
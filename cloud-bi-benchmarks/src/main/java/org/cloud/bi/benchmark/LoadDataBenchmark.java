@@ -0,0 +1,55 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.bi.benchmark.entity.Fact;
+import org.cloud.bi.dao.batch.LoadDataInputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 描述：LoadDataInputStream 将对象序列化为 LOAD DATA 文本格式的吞吐量，按照驱动的方式以 64KB 为单位读取，
+ * 不连接数据库；包含需要转义的字段与 null 字段
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadDataBenchmark {
+
+    private static final int ROWS = 100000;
+
+    private final byte[] packet = new byte[64 * 1024];
+    private final List<Function<? super Fact, ?>> columns = List.of(Fact::getId, Fact::getCategory, Fact::getName, Fact::getAmount);
+    private List<Fact> facts;
+
+    @Setup
+    public void setup() {
+        facts = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            // 每 10 行包含一个需要转义的名称，每 100 行包含一个 null 字段
+            var name = i % 10 == 0 ? "name\t" + i + "\\n" : "name-" + i;
+            facts.add(new Fact(i, i % 100 == 0 ? null : "category-" + (i % 5), name, i * 100));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long serialize() throws IOException {
+        var bytes = 0L;
+        try (var stream = new LoadDataInputStream<Fact>(facts.iterator(), columns, ROWS)) {
+            int read;
+            while ((read = stream.read(packet, 0, packet.length)) != -1) {
+                bytes += read;
+            }
+        }
+        return bytes;
+    }
+}
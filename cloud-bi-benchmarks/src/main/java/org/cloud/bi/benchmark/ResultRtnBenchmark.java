@@ -0,0 +1,106 @@
+package org.cloud.bi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pagehelper.Page;
+import org.cloud.bi.benchmark.entity.Fact;
+import org.cloud.web.configurations.ResultRtnMessageConverter;
+import org.cloud.web.constants.GenericStatusCode;
+import org.cloud.web.constants.ResultRtn;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：ResultRtn 构建以及 Jackson 序列化的基准测试
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultRtnBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+    private final ResultRtnMessageConverter resultRtnConverter = new ResultRtnMessageConverter(objectMapper);
+    private final RuntimeException exception = new IllegalStateException("benchmark");
+    private List<Fact> list;
+    private Page<Fact> page;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>(20);
+        page = new Page<>(1, 20);
+        for (long i = 0; i < 20; i++) {
+            var fact = new Fact(i, "category-" + (i % 5), "name-" + i, i * 100);
+            list.add(fact);
+            page.add(fact);
+        }
+        page.setTotal(10000);
+    }
+
+    @Benchmark
+    public ResultRtn<List<Fact>> success() {
+        return ResultRtn.success(list);
+    }
+
+    @Benchmark
+    public ResultRtn<Page<Fact>> successPage() {
+        return ResultRtn.success(page);
+    }
+
+    @Benchmark
+    public ResultRtn<Object> fail() {
+        return ResultRtn.fail(GenericStatusCode.PARAM_VALIDATE_EXCEPTION);
+    }
+
+    @Benchmark
+    public ResultRtn<Object> failWithException() {
+        return ResultRtn.fail(GenericStatusCode.INTERNAL_EXCEPTION, exception);
+    }
+
+    @Benchmark
+    public byte[] serializeSuccess() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResultRtn.success(list));
+    }
+
+    @Benchmark
+    public byte[] serializeSuccessPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResultRtn.success(page));
+    }
+
+    @Benchmark
+    public byte[] serializeFail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResultRtn.fail(GenericStatusCode.PARAM_VALIDATE_EXCEPTION));
+    }
+
+    /**
+     * 通过默认的 Jackson 转换器输出无数据响应
+     */
+    @Benchmark
+    public byte[] writeFailWithJacksonConverter() throws IOException {
+        var outputMessage = new MockHttpOutputMessage();
+        jacksonConverter.write(ResultRtn.fail(GenericStatusCode.PARAM_VALIDATE_EXCEPTION), MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    /**
+     * 通过 ResultRtnMessageConverter 输出无数据响应，直接写出缓存的字节
+     */
+    @Benchmark
+    public byte[] writeFailWithResultRtnConverter() throws IOException {
+        var outputMessage = new MockHttpOutputMessage();
+        resultRtnConverter.write(ResultRtn.fail(GenericStatusCode.PARAM_VALIDATE_EXCEPTION), MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+}
@@ -0,0 +1,90 @@
+package org.cloud.bi.benchmark;
+
+import org.cloud.bi.benchmark.service.FactService;
+import org.cloud.bi.dao.aspect.CachingTransactionAttributeSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.Advised;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：TransactionAspect 的拦截开销，被调用的方法不访问数据库，以直接调用目标对象作为对照；
+ * 同时对比按方法名前缀匹配与按方法缓存的事务属性解析开销
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionAspectBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private FactService proxy;
+    private FactService target;
+    private long value;
+    private CachingTransactionAttributeSource attributeSource;
+    private Method method;
+    private Class<?> targetClass;
+
+    @Setup
+    public void setup() throws Exception {
+        context = BenchmarkApplication.start();
+        proxy = context.getBean(FactService.class);
+        target = (FactService) ((Advised) proxy).getTargetSource().getTarget();
+        attributeSource = (CachingTransactionAttributeSource) context.getBean("txAdvice", TransactionInterceptor.class)
+                .getTransactionAttributeSource();
+        method = FactService.class.getMethod("updateNoop", long.class);
+        targetClass = target.getClass();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long direct() {
+        return target.queryNoop(value++);
+    }
+
+    @Benchmark
+    public long readOnly() {
+        return proxy.queryNoop(value++);
+    }
+
+    @Benchmark
+    public long required() {
+        return proxy.updateNoop(value++);
+    }
+
+    /**
+     * 标注 NonTransactional 的方法，不经过事务拦截器
+     */
+    @Benchmark
+    public long nonTransactional() {
+        return proxy.computeNoop(value++);
+    }
+
+    /**
+     * 每次调用都按照方法名前缀匹配事务属性（优化前的方式）
+     */
+    @Benchmark
+    public TransactionAttribute nameMatchLookup() {
+        return attributeSource.getDelegate().getTransactionAttribute(method, targetClass);
+    }
+
+    /**
+     * 按方法缓存的事务属性
+     */
+    @Benchmark
+    public TransactionAttribute cachedLookup() {
+        return attributeSource.getTransactionAttribute(method, targetClass);
+    }
+}
@@ -0,0 +1,32 @@
+package org.cloud.bi.benchmark.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 描述：基准测试使用的事实表数据
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Fact {
+    /**
+     * 主键
+     */
+    private Long id;
+    /**
+     * 分类
+     */
+    private String category;
+    /**
+     * 名称
+     */
+    private String name;
+    /**
+     * 数值
+     */
+    private Long amount;
+}
@@ -0,0 +1,12 @@
+package org.cloud.bi.benchmark.mapper;
+
+import org.cloud.bi.benchmark.entity.Fact;
+import org.cloud.bi.dao.mapper.BaseMapper;
+
+/**
+ * 描述：事实表 Mapper，只实现基准测试用到的语句
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface FactMapper extends BaseMapper<Long, Fact> {
+}
@@ -0,0 +1,38 @@
+package org.cloud.bi.benchmark.service;
+
+import org.cloud.bi.benchmark.entity.Fact;
+import org.cloud.bi.dao.annotation.NonTransactional;
+import org.cloud.bi.dao.service.BaseService;
+
+/**
+ * 描述：事实表 Service，包路径满足 TransactionAspect 的切点表达式
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface FactService extends BaseService<Long, Fact> {
+
+    /**
+     * 不访问数据库的只读方法，用于测量只读事务（SUPPORTS）的拦截开销
+     *
+     * @param value 输入值
+     * @return 原样返回
+     */
+    long queryNoop(long value);
+
+    /**
+     * 不访问数据库的写方法，用于测量 REQUIRED 事务的拦截开销
+     *
+     * @param value 输入值
+     * @return 原样返回
+     */
+    long updateNoop(long value);
+
+    /**
+     * 不访问数据库的方法，标注 NonTransactional 后不织入事务拦截器
+     *
+     * @param value 输入值
+     * @return 原样返回
+     */
+    @NonTransactional
+    long computeNoop(long value);
+}
@@ -0,0 +1,39 @@
+package org.cloud.bi.benchmark.service;
+
+import lombok.RequiredArgsConstructor;
+import org.cloud.bi.benchmark.entity.Fact;
+import org.cloud.bi.benchmark.mapper.FactMapper;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.springframework.stereotype.Service;
+
+/**
+ * 描述：事实表 Service 实现
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Service
+@RequiredArgsConstructor
+public class FactServiceImpl implements FactService {
+
+    private final FactMapper factMapper;
+
+    @Override
+    public BaseMapper<Long, Fact> getMapper() {
+        return factMapper;
+    }
+
+    @Override
+    public long queryNoop(long value) {
+        return value;
+    }
+
+    @Override
+    public long updateNoop(long value) {
+        return value;
+    }
+
+    @Override
+    public long computeNoop(long value) {
+        return value;
+    }
+}
@@ -0,0 +1,11 @@
+DROP TABLE IF EXISTS fact;
+
+CREATE TABLE fact
+(
+    id       BIGINT PRIMARY KEY,
+    category VARCHAR(32)  NOT NULL,
+    name     VARCHAR(128) NOT NULL,
+    amount   BIGINT       NOT NULL
+);
+
+CREATE INDEX idx_fact_category ON fact (category);
@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class AdaptiveLimiterBenchmark_Counters_jmhType extends AdaptiveLimiterBenchmark_Counters_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class AdaptiveLimiterBenchmark_jmhType extends AdaptiveLimiterBenchmark_jmhType_B3 {
+}
+
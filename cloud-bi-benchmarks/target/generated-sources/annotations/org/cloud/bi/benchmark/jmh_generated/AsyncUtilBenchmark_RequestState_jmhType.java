@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class AsyncUtilBenchmark_RequestState_jmhType extends AsyncUtilBenchmark_RequestState_jmhType_B3 {
+}
+
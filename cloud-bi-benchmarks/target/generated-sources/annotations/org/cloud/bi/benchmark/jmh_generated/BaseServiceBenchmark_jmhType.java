@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class BaseServiceBenchmark_jmhType extends BaseServiceBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class ContextPropagationBenchmark_jmhType extends ContextPropagationBenchmark_jmhType_B3 {
+}
+
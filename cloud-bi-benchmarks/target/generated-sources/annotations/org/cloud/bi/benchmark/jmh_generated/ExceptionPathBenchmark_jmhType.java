@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class ExceptionPathBenchmark_jmhType extends ExceptionPathBenchmark_jmhType_B3 {
+}
+
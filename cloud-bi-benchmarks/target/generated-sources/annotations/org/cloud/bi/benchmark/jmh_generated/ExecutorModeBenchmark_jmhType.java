@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class ExecutorModeBenchmark_jmhType extends ExecutorModeBenchmark_jmhType_B3 {
+}
+
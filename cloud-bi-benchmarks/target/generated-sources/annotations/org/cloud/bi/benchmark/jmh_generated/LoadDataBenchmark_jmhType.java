@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class LoadDataBenchmark_jmhType extends LoadDataBenchmark_jmhType_B3 {
+}
+
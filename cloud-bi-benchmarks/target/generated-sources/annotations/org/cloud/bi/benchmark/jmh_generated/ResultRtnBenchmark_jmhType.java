@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class ResultRtnBenchmark_jmhType extends ResultRtnBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.cloud.bi.benchmark.jmh_generated;
+public class TransactionAspectBenchmark_jmhType extends TransactionAspectBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,16 @@
+package org.cloud.bi.common.page;
+
+/**
+ * 描述：标识分页总数来源的分页结果，由 dao 模块的分页结果实现，web 模块据此输出分页信息中的 totalType
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface TotalTypeAware {
+
+    /**
+     * 获取总数的来源
+     *
+     * @return EXACT 精确统计、CACHED 缓存值、ESTIMATED 估算值或 NONE 未统计
+     */
+    String getTotalTypeName();
+}
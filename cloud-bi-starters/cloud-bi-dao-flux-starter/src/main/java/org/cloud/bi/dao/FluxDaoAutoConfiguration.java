@@ -1,7 +1,27 @@
 package org.cloud.bi.dao;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.cloud.bi.dao.monitor.MicrometerStatementObserver;
+import org.cloud.bi.dao.monitor.MicrometerTransactionObserver;
+import org.cloud.bi.dao.monitor.MonitoredDataSourcePostProcessor;
+import org.cloud.bi.dao.monitor.StatementObserver;
+import org.cloud.bi.dao.monitor.TransactionObserver;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.cloud.bi.dao.utils.SchedulerUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
 
 /**
  * 描述：Starter 入口类
@@ -10,5 +30,80 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @ComponentScan
+@EnableConfigurationProperties(DaoStarterProperties.class)
 public class FluxDaoAutoConfiguration {
+
+    /**
+     * 非 Hikari 连接池时默认的线程数上限
+     */
+    private static final int DEFAULT_THREAD_CAP = 10;
+
+    /**
+     * 数据库访问调度器，线程数与连接池大小保持一致，多余的任务排队而不是争抢连接
+     *
+     * @param dataSource 数据源
+     * @param properties 调度器配置属性
+     * @return 调度器实例
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler daoScheduler(DataSource dataSource, DaoStarterProperties properties) {
+        var config = properties.getScheduler();
+        var threadCap = config.getThreadCap() > 0 ? config.getThreadCap() : obtainPoolSize(dataSource);
+        return Schedulers.newBoundedElastic(threadCap, config.getQueuedTaskCap(),
+                SchedulerUtil.threadFactory(config.getThreadNamePrefix()), config.getTtlSeconds());
+    }
+
+    /**
+     * 记录连接等待与占用时间，包装 dataSource。后置处理器需要提前实例化，观察者在首次获取连接时才会获取
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cloud-bi-dao.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static MonitoredDataSourcePostProcessor monitoredDataSourcePostProcessor(ObjectProvider<TransactionObserver> transactionObserver) {
+        return new MonitoredDataSourcePostProcessor(transactionObserver);
+    }
+
+    /**
+     * 获取连接池的最大连接数，数据源被包装时（如：事务与连接监控）从包装中获取
+     *
+     * @param dataSource 数据源
+     * @return 最大连接数
+     */
+    private int obtainPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ignored) {
+            // 无法获取时使用默认的线程数上限
+        }
+        return DEFAULT_THREAD_CAP;
+    }
+
+    /**
+     * 存在 Micrometer 时注册事务与连接、SQL 执行的统计指标
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MetricsConfiguration {
+
+        /**
+         * 事务与连接的统计指标，不存在 MeterRegistry 时不做任何处理
+         */
+        @Bean
+        @ConditionalOnMissingBean(TransactionObserver.class)
+        public TransactionObserver transactionObserver(ObjectProvider<MeterRegistry> meterRegistry) {
+            var registry = meterRegistry.getIfAvailable();
+            return registry == null ? TransactionObserver.NOOP : new MicrometerTransactionObserver(registry);
+        }
+
+        /**
+         * SQL 执行时间与行数的统计指标，不存在 MeterRegistry 时不做任何处理
+         */
+        @Bean
+        @ConditionalOnMissingBean(StatementObserver.class)
+        public StatementObserver statementObserver(ObjectProvider<MeterRegistry> meterRegistry) {
+            var registry = meterRegistry.getIfAvailable();
+            return registry == null ? StatementObserver.NOOP : new MicrometerStatementObserver(registry);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package org.cloud.bi.dao.annotation;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import java.lang.annotation.*;
+
+/**
+ * 描述：显式指定方法的事务属性，优先于方法名前缀的匹配规则，可用于 {@link NonTransactional} 标注的类中个别需要事务的方法。
+ * 与 TransactionAspect 的默认规则一致，发生任何异常时回滚
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface UseTransaction {
+
+    /**
+     * 是否只读
+     */
+    boolean readOnly() default false;
+
+    /**
+     * 事务的传播行为
+     */
+    Propagation propagation() default Propagation.REQUIRED;
+}
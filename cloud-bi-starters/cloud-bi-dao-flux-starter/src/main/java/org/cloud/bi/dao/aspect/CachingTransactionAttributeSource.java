@@ -0,0 +1,89 @@
+package org.cloud.bi.dao.aspect;
+
+import lombok.Getter;
+import org.cloud.bi.dao.annotation.NonTransactional;
+import org.cloud.bi.dao.annotation.UseTransaction;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.interceptor.RollbackRuleAttribute;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 描述：按照 Method 与目标类缓存事务属性，每个方法只解析一次。
+ * 解析顺序：方法上的 {@link UseTransaction} / {@link NonTransactional}，类上的 {@link UseTransaction} / {@link NonTransactional}，
+ * 最后按照方法名前缀匹配（delegate）
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class CachingTransactionAttributeSource implements TransactionAttributeSource {
+
+    /**
+     * 无事务属性的占位，ConcurrentHashMap 不允许 null 值
+     */
+    private static final TransactionAttribute NULL_ATTRIBUTE = new DefaultTransactionAttribute();
+
+    /**
+     * 方法名前缀的匹配规则
+     */
+    @Getter
+    private final TransactionAttributeSource delegate;
+    private final Map<MethodClassKey, TransactionAttribute> cache = new ConcurrentHashMap<>(1024);
+
+    public CachingTransactionAttributeSource(TransactionAttributeSource delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @Nullable
+    public TransactionAttribute getTransactionAttribute(Method method, @Nullable Class<?> targetClass) {
+        if (method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        var key = new MethodClassKey(method, targetClass);
+        var attribute = cache.get(key);
+        if (attribute == null) {
+            attribute = computeTransactionAttribute(method, targetClass);
+            cache.put(key, attribute == null ? NULL_ATTRIBUTE : attribute);
+            return attribute;
+        }
+        return attribute == NULL_ATTRIBUTE ? null : attribute;
+    }
+
+    private TransactionAttribute computeTransactionAttribute(Method method, @Nullable Class<?> targetClass) {
+        var specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        var useTransaction = AnnotatedElementUtils.findMergedAnnotation(specificMethod, UseTransaction.class);
+        if (useTransaction != null) {
+            return toAttribute(useTransaction);
+        }
+        if (AnnotatedElementUtils.hasAnnotation(specificMethod, NonTransactional.class)) {
+            return null;
+        }
+        var type = targetClass != null ? targetClass : method.getDeclaringClass();
+        useTransaction = AnnotatedElementUtils.findMergedAnnotation(type, UseTransaction.class);
+        if (useTransaction != null) {
+            return toAttribute(useTransaction);
+        }
+        if (AnnotatedElementUtils.hasAnnotation(type, NonTransactional.class)) {
+            return null;
+        }
+        return delegate.getTransactionAttribute(method, targetClass);
+    }
+
+    private TransactionAttribute toAttribute(UseTransaction useTransaction) {
+        var attribute = new RuleBasedTransactionAttribute();
+        attribute.setReadOnly(useTransaction.readOnly());
+        attribute.setPropagationBehavior(useTransaction.propagation().value());
+        attribute.setRollbackRules(Collections.singletonList(new RollbackRuleAttribute(Exception.class)));
+        return attribute;
+    }
+}
@@ -0,0 +1,130 @@
+package org.cloud.bi.dao.aspect;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.cloud.bi.dao.monitor.TransactionMonitor;
+import org.cloud.bi.dao.utils.SchedulerUtil;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 描述：响应式事务拦截器
+ * <p>
+ * JDBC 事务与线程绑定，而 BaseService 的响应式方法在订阅时才会执行，因此对于需要开启事务的 Mono 方法，
+ * 在订阅时将整个方法调度到数据库线程上，在事务内完成订阅后再提交。只读查询无需开启事务，直接返回由 BaseService 自行调度。
+ * <p>
+ * 显式要求事务（写操作的方法名前缀或 {@link org.cloud.bi.dao.annotation.UseTransaction}）的 Flux 方法无法在整个订阅期间
+ * 保持与线程绑定的事务，缓冲全部元素又会占用大量内存，并可能在数据库线程耗尽时死锁，因此订阅时以 {@link IllegalStateException} 结束；
+ * 仅因未匹配任何方法名前缀而落入默认事务规则的 Flux 方法以非事务方式执行，每个方法只输出一次警告
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class ScheduledTransactionInterceptor implements MethodInterceptor {
+    /**
+     * 需要事务的方法返回 Flux 时的错误信息
+     */
+    private static final String FLUX_NOT_SUPPORTED = "事务方法 %s 不支持返回 Flux：JDBC 事务与线程绑定，无法在订阅期间保持。"
+            + "请改为返回 Mono（如：Mono<List<T>>），或通过 @NonTransactional、@UseTransaction(propagation = SUPPORTS) 以非事务方式流式读取";
+
+    /**
+     * 已输出过警告的方法
+     */
+    private final Set<Method> warnedMethods = ConcurrentHashMap.newKeySet();
+
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionInterceptor transactionInterceptor;
+    private final TransactionMonitor transactionMonitor;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var method = invocation.getMethod();
+        var returnType = method.getReturnType();
+        var isMono = Mono.class.isAssignableFrom(returnType);
+        var isFlux = Flux.class.isAssignableFrom(returnType);
+        // 非响应式方法或已处于数据库线程（嵌套调用）时，按照原有的方式处理事务
+        if ((!isMono && !isFlux) || SchedulerUtil.isDaoThread()) {
+            return transactionInterceptor.invoke(invocation);
+        }
+
+        var targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        var attribute = obtainAttributeSource().getTransactionAttribute(method, targetClass);
+        if (attribute == null || attribute.getPropagationBehavior() == TransactionDefinition.PROPAGATION_SUPPORTS) {
+            return invocation.proceed();
+        }
+
+        var methodIdentification = ClassUtils.getQualifiedMethodName(method, targetClass);
+        if (isFlux) {
+            if (attribute == TransactionAspect.FALLBACK_TX) {
+                if (warnedMethods.add(method)) {
+                    log.warn("方法 {} 返回 Flux 且未匹配任何事务方法名前缀，以非事务方式执行。需要事务时请改为返回 Mono，"
+                            + "否则可标注 @NonTransactional 消除该警告", methodIdentification);
+                }
+                return invocation.proceed();
+            }
+            return Flux.error(new IllegalStateException(String.format(FLUX_NOT_SUPPORTED, methodIdentification)));
+        }
+        return SchedulerUtil.mono(() -> execute(methodIdentification, attribute, invocableClone(invocation)));
+    }
+
+    /**
+     * 在事务内调用目标方法并完成订阅
+     *
+     * @param methodIdentification 方法标识，用于事务监控
+     * @param attribute            事务属性
+     * @param invocation           目标方法
+     * @return Mono 的结果
+     */
+    private Object execute(String methodIdentification, TransactionAttribute attribute, MethodInvocation invocation) {
+        var template = new TransactionTemplate(transactionManager, attribute);
+        return template.execute(status -> {
+            transactionMonitor.onTransactionBegin(methodIdentification, attribute, status);
+            Object publisher;
+            try {
+                publisher = invocation.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw Exceptions.propagate(e);
+            }
+            return publisher == null ? null : ((Mono<?>) publisher).block();
+        });
+    }
+
+    /**
+     * 每次订阅使用独立的方法调用副本，保证可重复订阅
+     *
+     * @param invocation 方法调用
+     * @return 方法调用副本
+     */
+    private MethodInvocation invocableClone(MethodInvocation invocation) {
+        return invocation instanceof ProxyMethodInvocation ?
+                ((ProxyMethodInvocation) invocation).invocableClone() : invocation;
+    }
+
+    /**
+     * 获取事务属性源
+     *
+     * @return 事务属性源
+     */
+    private TransactionAttributeSource obtainAttributeSource() {
+        return transactionInterceptor.getTransactionAttributeSource();
+    }
+}
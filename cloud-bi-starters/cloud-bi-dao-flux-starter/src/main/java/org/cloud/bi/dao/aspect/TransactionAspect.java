@@ -1,16 +1,22 @@
 package org.cloud.bi.dao.aspect;
 
 import lombok.extern.log4j.Log4j2;
+import org.cloud.bi.dao.monitor.TransactionMonitor;
 import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
 import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.ComposablePointcut;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.interceptor.*;
 
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 
@@ -28,9 +34,17 @@ public class TransactionAspect {
      */
     private static final String AOP_POINTCUT_EXPRESSION = "execution(* org.cloud.*.*.*.*Service.*(..))";
 
+    /**
+     * 未匹配任何方法名前缀时的事务属性，使用独立的实例以便与显式要求事务的方法区分
+     */
+    static final TransactionAttribute FALLBACK_TX = requiredTx();
+
     @Autowired
     private TransactionManager transactionManager;
 
+    @Autowired
+    private TransactionMonitor transactionMonitor;
+
     @Bean
     public TransactionInterceptor txAdvice() {
         var source = new NameMatchTransactionAttributeSource();
@@ -40,10 +54,7 @@ public class TransactionAspect {
         readOnlyTx.setReadOnly(true);
         readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
 
-        // 当前事务存在时，使用当前事务；当没有当前事务时，创建新事务
-        var requiredTx = new RuleBasedTransactionAttribute();
-        requiredTx.setRollbackRules(Collections.singletonList(new RollbackRuleAttribute(Exception.class)));
-        requiredTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        var requiredTx = requiredTx();
 
         var txMap = new HashMap<String, TransactionAttribute>(16);
 
@@ -63,20 +74,52 @@ public class TransactionAspect {
         txMap.put("find*", readOnlyTx);
         txMap.put("select*", readOnlyTx);
         // 除此之外的方法添加事务
-        txMap.put("*", requiredTx);
+        txMap.put("*", FALLBACK_TX);
         source.setNameMap(txMap);
 
-        return new TransactionInterceptor(transactionManager, source);
+        // 事务开启后登记到事务监控，记录持续时间、回滚次数并检查长事务
+        return new MonitoredTransactionInterceptor(transactionManager, new CachingTransactionAttributeSource(source),
+                transactionMonitor);
     }
 
     /**
-     * 事务注册
+     * 事务注册，响应式方法的事务在订阅时于数据库线程上开启；没有事务属性的方法（如：@NonTransactional）不织入事务拦截器
      */
     @Bean
     public Advisor txAdviceAdvisor(TransactionInterceptor txAdvice) {
         var pointcut = new AspectJExpressionPointcut();
         pointcut.setExpression(AOP_POINTCUT_EXPRESSION);
-        return new DefaultPointcutAdvisor(pointcut, txAdvice);
+        var advice = new ScheduledTransactionInterceptor((PlatformTransactionManager) transactionManager, txAdvice,
+                transactionMonitor);
+        return new DefaultPointcutAdvisor(transactionalPointcut(pointcut, txAdvice.getTransactionAttributeSource()), advice);
+    }
+
+    /**
+     * 当前事务存在时，使用当前事务；当没有当前事务时，创建新事务
+     *
+     * @return 事务属性
+     */
+    private static RuleBasedTransactionAttribute requiredTx() {
+        var requiredTx = new RuleBasedTransactionAttribute();
+        requiredTx.setRollbackRules(Collections.singletonList(new RollbackRuleAttribute(Exception.class)));
+        requiredTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        return requiredTx;
+    }
+
+    /**
+     * 在切点表达式的基础上排除没有事务属性的方法
+     *
+     * @param pointcut 切点表达式
+     * @param source   事务属性
+     * @return 组合后的切点
+     */
+    private static Pointcut transactionalPointcut(Pointcut pointcut, TransactionAttributeSource source) {
+        return new ComposablePointcut(pointcut).intersection(new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return source.getTransactionAttribute(method, targetClass) != null;
+            }
+        });
     }
 
 }
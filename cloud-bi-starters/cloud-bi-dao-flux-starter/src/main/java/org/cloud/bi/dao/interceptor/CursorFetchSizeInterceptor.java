@@ -0,0 +1,84 @@
+package org.cloud.bi.dao.interceptor;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.RowBounds;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 描述：游标查询拦截器，为未指定 fetchSize 的游标查询设置 fetchSize，避免驱动一次性加载全部结果。
+ * 未配置 fetchSize 时仅对 MySQL 连接使用 Integer.MIN_VALUE 逐行流式读取，其余数据库保持驱动的默认行为
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class})
+})
+public class CursorFetchSizeInterceptor implements Interceptor {
+
+    /**
+     * MySQL 驱动逐行流式读取使用的 fetchSize
+     */
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * 当前线程是否正在准备游标查询
+     */
+    private static final ThreadLocal<Boolean> CURSOR_QUERY = new ThreadLocal<>();
+
+    @Autowired
+    private DaoStarterProperties daoStarterProperties;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (invocation.getTarget() instanceof Executor) {
+            var mappedStatement = (MappedStatement) invocation.getArgs()[0];
+            // Mapper 或全局已指定 fetchSize 时以其为准
+            if (mappedStatement.getFetchSize() != null || mappedStatement.getConfiguration().getDefaultFetchSize() != null) {
+                return invocation.proceed();
+            }
+            CURSOR_QUERY.set(Boolean.TRUE);
+            try {
+                return invocation.proceed();
+            } finally {
+                CURSOR_QUERY.remove();
+            }
+        }
+
+        var statement = (Statement) invocation.proceed();
+        if (CURSOR_QUERY.get() == null) {
+            return statement;
+        }
+        var fetchSize = daoStarterProperties.getCursor().getFetchSize();
+        if (fetchSize != null) {
+            statement.setFetchSize(fetchSize);
+        } else if (isMySql((Connection) invocation.getArgs()[0])) {
+            statement.setFetchSize(MYSQL_STREAMING_FETCH_SIZE);
+        }
+        return statement;
+    }
+
+    /**
+     * 判断连接是否为 MySQL 连接，其余数据库（如：H2、PostgreSQL）不支持以 Integer.MIN_VALUE 作为 fetchSize
+     *
+     * @param connection 连接
+     * @return 是否为 MySQL
+     */
+    private static boolean isMySql(Connection connection) throws SQLException {
+        var productName = connection.getMetaData().getDatabaseProductName();
+        return productName != null && productName.toLowerCase().contains("mysql");
+    }
+}
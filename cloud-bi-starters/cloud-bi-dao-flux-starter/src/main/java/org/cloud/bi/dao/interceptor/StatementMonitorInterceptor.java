@@ -0,0 +1,189 @@
+package org.cloud.bi.dao.interceptor;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.cloud.bi.dao.monitor.SlowQueryLog;
+import org.cloud.bi.dao.monitor.StatementObserver;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：SQL 监控拦截器，按照 MappedStatement 记录执行时间、查询返回的行数与写操作影响的行数。
+ * <p>
+ * 每条 SQL 都会计时，以免遗漏慢 SQL；指标只对按照采样率采样到的 SQL 记录，降低高并发下的开销。
+ * 执行时间超过阈值的 SQL 记录到 {@link SlowQueryLog}；参数可能包含敏感信息，只有开启 log-parameters 时才会在慢 SQL 时解析并记录
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class StatementMonitorInterceptor implements Interceptor {
+
+    /**
+     * 单个参数值记录的最大长度
+     */
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    private final DaoStarterProperties.StatementMonitor config;
+    private final SlowQueryLog slowQueryLog;
+    private final ObjectProvider<StatementObserver> observerProvider;
+    private volatile StatementObserver observer;
+
+    public StatementMonitorInterceptor(DaoStarterProperties daoStarterProperties, SlowQueryLog slowQueryLog,
+                                       ObjectProvider<StatementObserver> observerProvider) {
+        this.config = daoStarterProperties.getStatementMonitor();
+        this.slowQueryLog = slowQueryLog;
+        this.observerProvider = observerProvider;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!config.isEnabled()) {
+            return invocation.proceed();
+        }
+        var sampled = sampled();
+        var start = System.nanoTime();
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            var duration = System.nanoTime() - start;
+            var slow = duration >= config.getSlowThreshold().toNanos();
+            if (sampled || slow) {
+                var mappedStatement = (MappedStatement) invocation.getArgs()[0];
+                var rows = error == null ? rows(result) : -1L;
+                if (sampled) {
+                    observer().onStatement(mappedStatement.getId(), mappedStatement.getSqlCommandType(), duration, rows, error);
+                }
+                if (slow) {
+                    recordSlowQuery(invocation, mappedStatement, duration, rows);
+                }
+            }
+        }
+    }
+
+    /**
+     * 是否对本次执行记录指标
+     */
+    private boolean sampled() {
+        var sampleRate = config.getSampleRate();
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 查询返回的行数或写操作影响的行数，BATCH 执行器的写操作在刷新前无法获取影响的行数
+     */
+    private static long rows(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Integer) {
+            var rows = (Integer) result;
+            return rows == BatchExecutor.BATCH_UPDATE_RETURN_VALUE ? -1 : rows;
+        }
+        return -1;
+    }
+
+    private void recordSlowQuery(Invocation invocation, MappedStatement mappedStatement, long duration, long rows) {
+        try {
+            var args = invocation.getArgs();
+            var boundSql = args.length == 6 ? (BoundSql) args[5] : mappedStatement.getBoundSql(args[1]);
+            var sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+            var durationMillis = TimeUnit.NANOSECONDS.toMillis(duration);
+            if (!config.isLogParameters()) {
+                slowQueryLog.add(new SlowQueryLog.SlowQuery(mappedStatement.getId(), sql, Collections.emptyList(),
+                        durationMillis, rows, Instant.now()));
+                log.warn("Slow statement [{}] took {} ms, rows: {}, sql: {}", mappedStatement.getId(), durationMillis, rows, sql);
+                return;
+            }
+            var parameters = parameters(mappedStatement, boundSql, config.getMaxParameters());
+            slowQueryLog.add(new SlowQueryLog.SlowQuery(mappedStatement.getId(), sql, parameters, durationMillis, rows, Instant.now()));
+            log.warn("Slow statement [{}] took {} ms, rows: {}, sql: {}, parameters: {}",
+                    mappedStatement.getId(), durationMillis, rows, sql, parameters);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record slow statement [{}]", mappedStatement.getId(), e);
+        }
+    }
+
+    /**
+     * 按照 DefaultParameterHandler 的方式解析参数值
+     *
+     * @param mappedStatement MappedStatement
+     * @param boundSql        SQL 与参数
+     * @param maxParameters   最多解析的参数个数
+     * @return 参数值
+     */
+    private static List<String> parameters(MappedStatement mappedStatement, BoundSql boundSql, int maxParameters) {
+        var mappings = boundSql.getParameterMappings();
+        var parameterObject = boundSql.getParameterObject();
+        var configuration = mappedStatement.getConfiguration();
+        var typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+        var values = new ArrayList<String>(Math.min(mappings.size(), maxParameters));
+        MetaObject metaObject = null;
+        for (var mapping : mappings) {
+            if (values.size() >= maxParameters) {
+                break;
+            }
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            var property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (typeHandlerRegistry.hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameterObject);
+                }
+                value = metaObject.getValue(property);
+            }
+            var text = String.valueOf(value);
+            values.add(text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text);
+        }
+        return values;
+    }
+
+    private StatementObserver observer() {
+        var current = observer;
+        if (current == null) {
+            current = observerProvider.getIfAvailable(() -> StatementObserver.NOOP);
+            observer = current;
+        }
+        return current;
+    }
+}
@@ -2,6 +2,7 @@ package org.cloud.bi.dao.mapper;
 
 import com.github.pagehelper.Page;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Map;
@@ -102,6 +103,13 @@ public interface BaseMapper<ID, T> {
      */
     List<T> selectAll();
 
+    /**
+     * 以游标的方式查询所有数据
+     *
+     * @return 返回查询游标
+     */
+    Cursor<T> selectCursorAll();
+
     /**
      * 根据对象进行查询
      *
@@ -126,6 +134,14 @@ public interface BaseMapper<ID, T> {
      */
     List<T> selectList(T t);
 
+    /**
+     * 根据对象以游标的方式进行查询
+     *
+     * @param t 根据对象进行查询
+     * @return 返回查询游标
+     */
+    Cursor<T> selectCursor(T t);
+
     /**
      * 查询分页信息
      *
@@ -158,6 +174,14 @@ public interface BaseMapper<ID, T> {
      */
     List<T> selectListByMap(@Param("param") Map<String, Object> param);
 
+    /**
+     * 根据 Map 以游标的方式进行查询
+     *
+     * @param param 根据 Map 进行查询
+     * @return 返回查询游标
+     */
+    Cursor<T> selectCursorByMap(@Param("param") Map<String, Object> param);
+
     /**
      * 根据 id 集合批量查询
      *
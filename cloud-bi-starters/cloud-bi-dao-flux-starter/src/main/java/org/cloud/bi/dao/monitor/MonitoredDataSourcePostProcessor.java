@@ -0,0 +1,46 @@
+package org.cloud.bi.dao.monitor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * 描述：将名为 dataSource 的数据源包装为 {@link MonitoredDataSource}。
+ * <p>
+ * 注意：包装后 dataSource Bean 的类型不再是 HikariDataSource，按类型注入或强转 HikariDataSource 的代码需要改为注入
+ * DataSource 并通过 {@code dataSource.unwrap(HikariDataSource.class)} 获取连接池；不需要时可关闭 cloud-bi-dao.monitor.enabled
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class MonitoredDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    /**
+     * 后置处理器的执行顺序，预留出排在其后的位置（如：读写分离）
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final ObjectProvider<TransactionObserver> observerProvider;
+
+    public MonitoredDataSourcePostProcessor(ObjectProvider<TransactionObserver> observerProvider) {
+        this.observerProvider = observerProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource) || bean instanceof MonitoredDataSource) {
+            return bean;
+        }
+        return new MonitoredDataSource((DataSource) bean,
+                SingletonSupplier.of(() -> observerProvider.getIfAvailable(() -> TransactionObserver.NOOP)));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,30 @@
+package org.cloud.bi.dao.monitor;
+
+import org.apache.ibatis.mapping.SqlCommandType;
+
+/**
+ * 描述：SQL 执行的观察者，StatementMonitorInterceptor 对采样到的 SQL 回调。
+ * 存在 Micrometer 时默认注册 {@link MicrometerStatementObserver}
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface StatementObserver {
+
+    /**
+     * 不做任何处理的观察者
+     */
+    StatementObserver NOOP = new StatementObserver() {
+    };
+
+    /**
+     * SQL 执行结束
+     *
+     * @param statementId   MappedStatement 的 id，如：org.cloud.bi.mapper.UserMapper.selectMapByPage
+     * @param commandType   SQL 类型
+     * @param durationNanos 执行时间
+     * @param rows          查询返回的行数或写操作影响的行数，执行失败或无法获取时为 -1
+     * @param error         执行失败时的异常
+     */
+    default void onStatement(String statementId, SqlCommandType commandType, long durationNanos, long rows, Throwable error) {
+    }
+}
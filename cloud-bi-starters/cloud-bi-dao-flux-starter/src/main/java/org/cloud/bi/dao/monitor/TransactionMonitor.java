@@ -0,0 +1,177 @@
+package org.cloud.bi.dao.monitor;
+
+import lombok.extern.log4j.Log4j2;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：事务监控。在事务开启时登记，事务结束时回调 {@link TransactionObserver} 记录持续时间与是否回滚；
+ * 由守护线程定期检查仍未结束的事务，持续时间超过阈值时输出开启事务的方法、请求路径与线程（每个事务只输出一次），
+ * 便于发现长时间占用连接、持有行锁的事务
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+@Component
+public class TransactionMonitor implements DisposableBean {
+
+    private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.context.request.RequestContextHolder", TransactionMonitor.class.getClassLoader());
+
+    /**
+     * 尚未结束的事务
+     */
+    private final Set<Record> open = ConcurrentHashMap.newKeySet();
+    private final DaoStarterProperties.Monitor config;
+    private final ObjectProvider<TransactionObserver> observerProvider;
+    private final ScheduledExecutorService watchdog;
+    private volatile TransactionObserver observer;
+
+    public TransactionMonitor(DaoStarterProperties daoStarterProperties, ObjectProvider<TransactionObserver> observerProvider) {
+        this.config = daoStarterProperties.getMonitor();
+        this.observerProvider = observerProvider;
+        // 关闭监控时不创建守护线程
+        if (!config.isEnabled()) {
+            this.watchdog = null;
+            return;
+        }
+        var threadFactory = new CustomizableThreadFactory("Dao-Transaction-Watchdog-");
+        threadFactory.setDaemon(true);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        var interval = config.getCheckInterval().toMillis();
+        this.watchdog.scheduleWithFixedDelay(this::flagLongTransactions, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 事务开启后调用，只登记新开启的物理事务，加入已有事务或不存在事务时忽略
+     *
+     * @param method    开启事务的方法，如：org.cloud.bi.UserService.saveUser
+     * @param attribute 事务属性
+     * @param status    事务状态
+     */
+    public void onTransactionBegin(String method, TransactionAttribute attribute, TransactionStatus status) {
+        if (!config.isEnabled() || !status.isNewTransaction() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        var record = new Record(method, attribute.isReadOnly(), requestPath(), Thread.currentThread().getName());
+        open.add(record);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int completionStatus) {
+                complete(record, completionStatus != TransactionSynchronization.STATUS_COMMITTED);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+    }
+
+    /**
+     * 事务结束
+     *
+     * @param record     事务记录
+     * @param rolledBack 是否回滚
+     */
+    private void complete(Record record, boolean rolledBack) {
+        open.remove(record);
+        var duration = System.nanoTime() - record.startedAt;
+        observer().onTransactionCompleted(record.method, record.readOnly, duration, rolledBack);
+        if (record.flagged) {
+            log.warn("Long transaction finished: method [{}], request [{}], duration {} ms, rolled back: {}",
+                    record.method, record.requestPath, TimeUnit.NANOSECONDS.toMillis(duration), rolledBack);
+        }
+    }
+
+    /**
+     * 输出持续时间超过阈值且尚未输出过的事务
+     */
+    private void flagLongTransactions() {
+        var now = System.nanoTime();
+        var threshold = config.getLongTransactionThreshold().toNanos();
+        for (var record : open) {
+            if (!record.flagged && now - record.startedAt >= threshold) {
+                record.flagged = true;
+                observer().onLongTransaction(record.method);
+                log.warn("Long transaction detected: method [{}], request [{}], thread [{}], open for {} ms",
+                        record.method, record.requestPath, record.thread, TimeUnit.NANOSECONDS.toMillis(now - record.startedAt));
+            }
+        }
+    }
+
+    private TransactionObserver observer() {
+        var current = observer;
+        if (current == null) {
+            current = observerProvider.getIfAvailable(() -> TransactionObserver.NOOP);
+            observer = current;
+        }
+        return current;
+    }
+
+    /**
+     * 获取当前请求的路径，优先使用匹配到的路径模板，不处于请求中时返回 null
+     */
+    private static String requestPath() {
+        return WEB_PRESENT ? RequestPaths.current() : null;
+    }
+
+    /**
+     * 隔离对 spring-web 的引用，不存在 spring-web 时不加载该类
+     */
+    private static final class RequestPaths {
+
+        private static final String BEST_MATCHING_PATTERN = "org.springframework.web.servlet.HandlerMapping.bestMatchingPattern";
+        private static final String PATH_WITHIN_HANDLER_MAPPING = "org.springframework.web.servlet.HandlerMapping.pathWithinHandlerMapping";
+
+        private static String current() {
+            var attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return null;
+            }
+            var pattern = attributes.getAttribute(BEST_MATCHING_PATTERN, RequestAttributes.SCOPE_REQUEST);
+            if (pattern == null) {
+                pattern = attributes.getAttribute(PATH_WITHIN_HANDLER_MAPPING, RequestAttributes.SCOPE_REQUEST);
+            }
+            return pattern == null ? null : pattern.toString();
+        }
+    }
+
+    private static final class Record {
+        private final String method;
+        private final boolean readOnly;
+        private final String requestPath;
+        private final String thread;
+        private final long startedAt = System.nanoTime();
+        /**
+         * 是否已作为长事务输出
+         */
+        private volatile boolean flagged;
+
+        private Record(String method, boolean readOnly, String requestPath, String thread) {
+            this.method = method;
+            this.readOnly = readOnly;
+            this.requestPath = requestPath;
+            this.thread = thread;
+        }
+    }
+}
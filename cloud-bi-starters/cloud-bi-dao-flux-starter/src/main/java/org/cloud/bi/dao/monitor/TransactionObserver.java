@@ -0,0 +1,51 @@
+package org.cloud.bi.dao.monitor;
+
+/**
+ * 描述：事务与连接的观察者，TransactionMonitor 与 MonitoredDataSource 在各个阶段回调。
+ * 存在 Micrometer 时默认注册 {@link MicrometerTransactionObserver}
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface TransactionObserver {
+
+    /**
+     * 不做任何处理的观察者
+     */
+    TransactionObserver NOOP = new TransactionObserver() {
+    };
+
+    /**
+     * 事务结束
+     *
+     * @param method        开启事务的 Service 方法，如：UserService.saveUser
+     * @param readOnly      是否只读事务
+     * @param durationNanos 事务持续时间
+     * @param rolledBack    是否回滚
+     */
+    default void onTransactionCompleted(String method, boolean readOnly, long durationNanos, boolean rolledBack) {
+    }
+
+    /**
+     * 事务持续时间超过阈值（事务仍未结束时即回调，每个事务只回调一次）
+     *
+     * @param method 开启事务的 Service 方法
+     */
+    default void onLongTransaction(String method) {
+    }
+
+    /**
+     * 从连接池获取到连接
+     *
+     * @param waitNanos 获取连接的等待时间
+     */
+    default void onConnectionAcquired(long waitNanos) {
+    }
+
+    /**
+     * 连接归还连接池
+     *
+     * @param holdNanos 连接的占用时间
+     */
+    default void onConnectionReleased(long holdNanos) {
+    }
+}
@@ -0,0 +1,122 @@
+package org.cloud.bi.dao.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.time.Duration;
+
+/**
+ * 描述：将配置信息对外暴露
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "cloud-bi-dao")
+public class DaoStarterProperties {
+
+    /**
+     * 数据库访问调度器配置
+     */
+    @NestedConfigurationProperty
+    private Scheduler scheduler = new Scheduler();
+
+    /**
+     * 游标查询配置
+     */
+    @NestedConfigurationProperty
+    private Cursor cursor = new Cursor();
+
+    /**
+     * 事务与连接监控配置
+     */
+    @NestedConfigurationProperty
+    private Monitor monitor = new Monitor();
+
+    /**
+     * SQL 监控配置
+     */
+    @NestedConfigurationProperty
+    private StatementMonitor statementMonitor = new StatementMonitor();
+
+    @Setter
+    @Getter
+    public static class Scheduler {
+        /**
+         * 线程数上限，小于等于 0 时与连接池的最大连接数保持一致
+         */
+        private int threadCap = 0;
+        /**
+         * 等待执行的任务数上限
+         */
+        private int queuedTaskCap = 100000;
+        /**
+         * 空闲线程的存活时间（单位：秒）
+         */
+        private int ttlSeconds = 60;
+        /**
+         * 线程名前缀
+         */
+        private String threadNamePrefix = "Dao-Scheduler-";
+    }
+
+    @Setter
+    @Getter
+    public static class Cursor {
+        /**
+         * 游标查询的 fetchSize，仅在 Mapper 未显式指定时生效。
+         * 为空时 MySQL 连接使用 Integer.MIN_VALUE 逐行流式读取，其余数据库使用驱动的默认值；
+         * MySQL 开启 useCursorFetch 时可设置为正数。
+         * 注意：MySQL 逐行流式读取期间连接被独占，游标关闭前该连接无法执行其他语句，也不会归还到连接池
+         */
+        private Integer fetchSize;
+    }
+
+    @Setter
+    @Getter
+    public static class Monitor {
+        /**
+         * 是否开启事务与连接监控，记录事务持续时间、回滚次数与连接等待、占用时间
+         */
+        private boolean enabled = true;
+        /**
+         * 长事务阈值，事务持续时间超过该值时输出开启事务的方法与请求路径
+         */
+        private Duration longTransactionThreshold = Duration.ofSeconds(5);
+        /**
+         * 检查长事务的间隔
+         */
+        private Duration checkInterval = Duration.ofSeconds(1);
+    }
+
+    @Setter
+    @Getter
+    public static class StatementMonitor {
+        /**
+         * 是否开启 SQL 监控，按照 MappedStatement 记录执行时间、返回行数与影响行数
+         */
+        private boolean enabled = true;
+        /**
+         * 记录指标的采样率（0 ~ 1），采样到的 SQL 需要更新直方图，默认只采样 10%；慢 SQL 不受采样率影响
+         */
+        private double sampleRate = 0.1;
+        /**
+         * 慢 SQL 阈值，执行时间超过该值的 SQL 记录到慢 SQL 日志
+         */
+        private Duration slowThreshold = Duration.ofSeconds(1);
+        /**
+         * 慢 SQL 日志最多保留的条数
+         */
+        private int slowLogSize = 100;
+        /**
+         * 是否在慢 SQL 日志与 WARN 日志中记录参数值。参数中可能包含手机号、身份证号等敏感信息，默认不记录
+         */
+        private boolean logParameters = false;
+        /**
+         * 慢 SQL 日志中每条 SQL 最多记录的参数个数，开启 log-parameters 时生效
+         */
+        private int maxParameters = 50;
+    }
+}
@@ -3,6 +3,8 @@ package org.cloud.bi.dao.service;
 import com.github.pagehelper.Page;
 import com.github.pagehelper.page.PageMethod;
 import org.cloud.bi.dao.mapper.BaseMapper;
+import org.cloud.bi.dao.utils.CursorUtil;
+import org.cloud.bi.dao.utils.SchedulerUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -10,7 +12,7 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * 描述：通用 BaseService 类
+ * 描述：通用 BaseService 类，所有方法在订阅时才会访问数据库，并调度到专用的数据库线程上执行
  *
  * @author Tubetrue01@gmail.com by 2023/07/06
  */
@@ -31,7 +33,7 @@ public interface BaseService<ID, T> {
      * @return 返回保存的条数
      */
     default Mono<Integer> save(T t) {
-        return Mono.justOrEmpty(this.getMapper().insert(t));
+        return SchedulerUtil.mono(() -> this.getMapper().insert(t));
     }
 
     /**
@@ -41,7 +43,7 @@ public interface BaseService<ID, T> {
      * @return 实际保存的条数
      */
     default Mono<Integer> saveByList(List<T> param) {
-        return Mono.justOrEmpty(this.getMapper().insertByList(param));
+        return SchedulerUtil.mono(() -> this.getMapper().insertByList(param));
     }
 
     /**
@@ -51,7 +53,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际保存的对象信息
      */
     default Mono<Integer> saveByMap(Map<String, Object> param) {
-        return Mono.justOrEmpty(this.getMapper().insertByMap(param));
+        return SchedulerUtil.mono(() -> this.getMapper().insertByMap(param));
     }
 
     /**
@@ -61,7 +63,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际删除的条数
      */
     default Mono<Integer> remove(T t) {
-        return Mono.justOrEmpty(this.getMapper().delete(t));
+        return SchedulerUtil.mono(() -> this.getMapper().delete(t));
     }
 
     /**
@@ -71,7 +73,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际删除的条数
      */
     default Mono<Integer> removeById(ID id) {
-        return Mono.justOrEmpty(this.getMapper().deleteById(id));
+        return SchedulerUtil.mono(() -> this.getMapper().deleteById(id));
     }
 
     /**
@@ -81,7 +83,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际删除的对象条数
      */
     default Mono<Integer> removeByList(List<T> param) {
-        return Mono.justOrEmpty(this.getMapper().deleteByList(param));
+        return SchedulerUtil.mono(() -> this.getMapper().deleteByList(param));
     }
 
     /**
@@ -91,7 +93,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际删除的条数
      */
     default Mono<Integer> removeByMap(Map<String, Object> param) {
-        return Mono.justOrEmpty(this.getMapper().deleteByMap(param));
+        return SchedulerUtil.mono(() -> this.getMapper().deleteByMap(param));
     }
 
     /**
@@ -101,7 +103,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际更新的对象条数
      */
     default Mono<Integer> modify(T t) {
-        return Mono.justOrEmpty(this.getMapper().update(t));
+        return SchedulerUtil.mono(() -> this.getMapper().update(t));
     }
 
     /**
@@ -111,7 +113,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际更新的对象条数
      */
     default Mono<Integer> modifyByList(List<T> param) {
-        return Mono.justOrEmpty(this.getMapper().updateByList(param));
+        return SchedulerUtil.mono(() -> this.getMapper().updateByList(param));
     }
 
     /**
@@ -121,7 +123,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际更新的对象条数
      */
     default Mono<Integer> modifyByMap(Map<String, Object> param) {
-        return Mono.justOrEmpty(this.getMapper().updateByMap(param));
+        return SchedulerUtil.mono(() -> this.getMapper().updateByMap(param));
     }
 
     /**
@@ -131,16 +133,16 @@ public interface BaseService<ID, T> {
      * @return 对象的详细信息
      */
     default Mono<T> find(T t) {
-        return Mono.justOrEmpty(this.getMapper().select(t));
+        return SchedulerUtil.mono(() -> this.getMapper().select(t).orElse(null));
     }
 
     /**
-     * 查询所有对象
+     * 查询所有对象，按照下游的请求量从游标中逐条读取
      *
      * @return 返回所有的对象集合
      */
     default Flux<T> findAll() {
-        return Flux.fromIterable(this.getMapper().selectAll());
+        return CursorUtil.stream(this.getMapper(), BaseMapper::selectCursorAll);
     }
 
     /**
@@ -150,17 +152,17 @@ public interface BaseService<ID, T> {
      * @return 返回满足条件的对象信息
      */
     default Mono<T> findById(ID id) {
-        return Mono.justOrEmpty(this.getMapper().selectById(id));
+        return SchedulerUtil.mono(() -> this.getMapper().selectById(id).orElse(null));
     }
 
     /**
-     * 根据对象进行查询
+     * 根据对象进行查询，按照下游的请求量从游标中逐条读取
      *
      * @param t 需要查询的对象
      * @return 满足该条件的对象信息
      */
     default Flux<T> findList(T t) {
-        return Flux.fromIterable(this.getMapper().selectList(t));
+        return CursorUtil.stream(this.getMapper(), mapper -> mapper.selectCursor(t));
     }
 
     /**
@@ -172,8 +174,11 @@ public interface BaseService<ID, T> {
      * @return 分页查询的结果集
      */
     default Mono<Page<T>> findListByPage(int pageNum, int pageSize, Map<String, Object> param) {
-        PageMethod.startPage(pageNum, pageSize);
-        return Mono.just(this.getMapper().selectListByPage(param));
+        return SchedulerUtil.mono(() -> {
+            // 分页参数与线程绑定，需要与查询在同一线程中设置
+            PageMethod.startPage(pageNum, pageSize);
+            return this.getMapper().selectListByPage(param);
+        });
     }
 
     /**
@@ -185,8 +190,11 @@ public interface BaseService<ID, T> {
      * @return 返回分页封装的 Map 结果集
      */
     default Mono<Page<Map<String, Object>>> findMapByPage(int pageNum, int pageSize, Map<String, Object> param) {
-        PageMethod.startPage(pageNum, pageSize);
-        return Mono.just(this.getMapper().selectMapByPage(param));
+        return SchedulerUtil.mono(() -> {
+            // 分页参数与线程绑定，需要与查询在同一线程中设置
+            PageMethod.startPage(pageNum, pageSize);
+            return this.getMapper().selectMapByPage(param);
+        });
     }
 
     /**
@@ -198,18 +206,21 @@ public interface BaseService<ID, T> {
      * @return 分页查询的结果集
      */
     default Mono<Page<T>> findListByPage(int pageNum, int pageSize, T t) {
-        PageMethod.startPage(pageNum, pageSize);
-        return Mono.just(this.getMapper().selectListByPage(t));
+        return SchedulerUtil.mono(() -> {
+            // 分页参数与线程绑定，需要与查询在同一线程中设置
+            PageMethod.startPage(pageNum, pageSize);
+            return this.getMapper().selectListByPage(t);
+        });
     }
 
     /**
-     * 获取对象集合
+     * 获取对象集合，按照下游的请求量从游标中逐条读取
      *
      * @param param 根据 Map 进行查询
      * @return 返回满足该条件的列表对象
      */
     default Flux<T> findListByMap(Map<String, Object> param) {
-        return Flux.fromIterable(this.getMapper().selectListByMap(param));
+        return CursorUtil.stream(this.getMapper(), mapper -> mapper.selectCursorByMap(param));
     }
 
     /**
@@ -219,7 +230,7 @@ public interface BaseService<ID, T> {
      * @return 返回 Map 封装的结果集
      */
     default Mono<Map<String, Object>> findMapByMap(Map<String, Object> param) {
-        return Mono.justOrEmpty(this.getMapper().selectMapByMap(param));
+        return SchedulerUtil.mono(() -> this.getMapper().selectMapByMap(param).orElse(null));
     }
 
 }
@@ -0,0 +1,159 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * 描述：游标流式查询工具类
+ * <p>
+ * 每次订阅使用独立的 SqlSession 打开游标，按照下游的请求量（request(n)）从游标中逐条读取，
+ * 读取完成、出错或取消订阅时关闭游标并归还连接。游标在数据库线程上读取，关闭与读取串行执行，不会并发访问同一个连接。
+ * MySQL 逐行流式读取时，游标关闭前该连接被独占，下游消费缓慢会使连接长时间无法归还到连接池。
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorUtil {
+    private static SqlSessionFactory sqlSessionFactory;
+    private static Scheduler daoScheduler;
+
+    /**
+     * 以游标的方式流式读取
+     *
+     * @param mapper 业务 Mapper
+     * @param query  游标查询，如：{@link BaseMapper#selectCursorAll()}
+     * @param <ID>   主键类型
+     * @param <T>    对象类型
+     * @return 支持背压的 Flux
+     */
+    @SuppressWarnings("unchecked")
+    public static <ID, T> Flux<T> stream(BaseMapper<ID, T> mapper, Function<BaseMapper<ID, T>, Cursor<T>> query) {
+        return Flux.defer(() -> {
+            // 已处于事务中时（事务内的嵌套调用），沿用当前事务的连接
+            if (SchedulerUtil.isDaoThread() && TransactionSynchronizationManager.isSynchronizationActive()) {
+                return Flux.using(() -> query.apply(mapper), cursor -> iterate(cursor.iterator()), CursorUtil::closeQuietly);
+            }
+            var mapperInterface = MapperUtil.getMapperInterface(mapper);
+            return Flux.using(() -> new CursorSession(sqlSessionFactory.openSession()),
+                    resource -> resource.iterate(query.apply((BaseMapper<ID, T>) resource.session.getMapper(mapperInterface))),
+                    CursorUtil::closeOffEventLoop)
+                    .subscribeOn(daoScheduler);
+        });
+    }
+
+    /**
+     * 遍历游标的迭代器。游标只能打开一次迭代器，而 Flux.fromIterable 会多次调用 iterator()，因此固定返回同一个迭代器
+     *
+     * @param iterator 游标的迭代器
+     * @param <T>      对象类型
+     * @return 逐条读取的 Flux
+     */
+    private static <T> Flux<T> iterate(Iterator<T> iterator) {
+        return Flux.fromIterable(() -> iterator);
+    }
+
+    /**
+     * 关闭会话。关闭时可能需要读取剩余的结果，在数据库线程上取消时直接关闭；在其他线程（如：事件循环线程）上取消时，
+     * 交给 Reactor 的 boundedElastic 执行，既不阻塞事件循环，也不会排在等待连接的数据库线程之后
+     *
+     * @param resource 会话
+     */
+    private static void closeOffEventLoop(CursorSession resource) {
+        if (SchedulerUtil.isDaoThread()) {
+            resource.close();
+            return;
+        }
+        try {
+            Schedulers.boundedElastic().schedule(resource::close);
+        } catch (RejectedExecutionException e) {
+            resource.close();
+        }
+    }
+
+    /**
+     * 关闭游标
+     *
+     * @param closeable 游标
+     */
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.warn("游标关闭失败", e);
+        }
+    }
+
+    /**
+     * 读取游标的会话。读取与关闭在同一把锁上串行执行：取消订阅可能发生在其他线程上，
+     * 关闭会等待正在进行的读取结束，关闭后游标不再返回数据，避免并发访问同一个连接
+     */
+    private static final class CursorSession {
+        private final SqlSession session;
+
+        private CursorSession(SqlSession session) {
+            this.session = session;
+        }
+
+        private <T> Flux<T> iterate(Cursor<T> cursor) {
+            var iterator = cursor.iterator();
+            return CursorUtil.iterate(new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    synchronized (CursorSession.this) {
+                        return iterator.hasNext();
+                    }
+                }
+
+                @Override
+                public T next() {
+                    synchronized (CursorSession.this) {
+                        return iterator.next();
+                    }
+                }
+            });
+        }
+
+        private synchronized void close() {
+            session.close();
+        }
+    }
+
+    //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired
+    private void sqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        setSqlSessionFactory(sqlSessionFactory);
+    }
+
+    @Autowired
+    private void daoScheduler(@Qualifier("daoScheduler") Scheduler daoScheduler) {
+        setDaoScheduler(daoScheduler);
+    }
+
+    private static void setSqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        CursorUtil.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    private static void setDaoScheduler(Scheduler daoScheduler) {
+        CursorUtil.daoScheduler = daoScheduler;
+    }
+
+}
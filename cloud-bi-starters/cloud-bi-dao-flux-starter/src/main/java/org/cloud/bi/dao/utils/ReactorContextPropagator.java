@@ -0,0 +1,36 @@
+package org.cloud.bi.dao.utils;
+
+import reactor.util.context.Context;
+
+/**
+ * 描述：Reactor Context 传递器，订阅时从订阅者的 Reactor Context 中捕获上下文，在数据库线程上执行阻塞调用期间恢复，
+ * 结束后还原数据库线程原有的上下文。注册为 Spring Bean 即可追加到 {@link SchedulerUtil}（如：租户、链路追踪上下文）
+ *
+ * @param <S> 上下文快照类型
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface ReactorContextPropagator<S> {
+
+    /**
+     * 从订阅者的 Reactor Context 中捕获上下文
+     *
+     * @param context 订阅者的 Reactor Context
+     * @return 上下文快照，不存在上下文时返回 null，此时不会在数据库线程上恢复
+     */
+    S capture(Context context);
+
+    /**
+     * 在数据库线程上恢复上下文
+     *
+     * @param snapshot 上下文快照
+     * @return 数据库线程原有的上下文，用于阻塞调用结束后还原
+     */
+    S restore(S snapshot);
+
+    /**
+     * 阻塞调用结束后还原数据库线程原有的上下文
+     *
+     * @param previous 数据库线程原有的上下文，可能为 null
+     */
+    void reset(S previous);
+}
@@ -0,0 +1,55 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.slf4j.MDC;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 描述：内置的 Reactor Context 传递器：MDC
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReactorContextPropagators {
+
+    /**
+     * 传递 Reactor Context 中 {@link SchedulerUtil#MDC_CONTEXT_KEY} 对应的 MDC（如：traceId）。
+     * 不读取订阅线程的 MDC：订阅线程通常是被多个请求复用的事件循环线程，其 MDC 可能属于其他请求
+     */
+    public static final ReactorContextPropagator<Map<String, String>> MDC_CONTEXT = new ReactorContextPropagator<>() {
+        @Override
+        public Map<String, String> capture(Context context) {
+            Map<String, String> mdc = context.getOrDefault(SchedulerUtil.MDC_CONTEXT_KEY, null);
+            return mdc == null || mdc.isEmpty() ? null : mdc;
+        }
+
+        @Override
+        public Map<String, String> restore(Map<String, String> snapshot) {
+            var previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(snapshot);
+            return previous == null || previous.isEmpty() ? null : previous;
+        }
+
+        @Override
+        public void reset(Map<String, String> previous) {
+            if (previous == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(previous);
+            }
+        }
+    };
+
+    /**
+     * 默认的 Reactor Context 传递器
+     *
+     * @return 传递器集合
+     */
+    public static List<ReactorContextPropagator<?>> defaults() {
+        return List.of(MDC_CONTEXT);
+    }
+}
@@ -0,0 +1,210 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 描述：数据库访问调度工具类，将阻塞的 JDBC 调用延迟到订阅时，并调度到专用的数据库线程上执行，避免阻塞事件循环线程。
+ * <p>
+ * 订阅时由各个 {@link ReactorContextPropagator} 从订阅者的 Reactor Context 中捕获上下文，在数据库线程上执行阻塞调用期间恢复。
+ * 默认传递 {@link #MDC_CONTEXT_KEY} 对应的 MDC，便于 SQL 日志携带 traceId 等信息，可通过 {@link #withMdc(Map)} 写入；
+ * 订阅线程的 MDC 不会传递
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SchedulerUtil {
+
+    /**
+     * Reactor Context 中存放 MDC（Map&lt;String, String&gt;）的键
+     */
+    public static final String MDC_CONTEXT_KEY = "cloud.bi.mdc";
+
+    private static Scheduler daoScheduler;
+    @SuppressWarnings("rawtypes")
+    private static ReactorContextPropagator[] propagators = ReactorContextPropagators.defaults()
+            .toArray(new ReactorContextPropagator[0]);
+
+    /**
+     * 将阻塞调用封装为 Mono，返回 null 时为空的 Mono
+     *
+     * @param callable 阻塞调用
+     * @param <R>      返回的数据类型
+     * @return 返回在数据库线程上执行的 Mono
+     */
+    public static <R> Mono<R> mono(Callable<R> callable) {
+        return Mono.deferWithContext(context -> offload(Mono.fromCallable(propagate(callable, context))));
+    }
+
+    /**
+     * 将返回集合的阻塞调用封装为 Flux
+     *
+     * @param callable 阻塞调用
+     * @param <R>      元素类型
+     * @return 返回在数据库线程上执行的 Flux
+     */
+    public static <R> Flux<R> flux(Callable<? extends Iterable<R>> callable) {
+        return Flux.deferWithContext(context -> offload(Mono.fromCallable(propagate(callable, context))
+                .flatMapIterable(iterable -> iterable)));
+    }
+
+    /**
+     * 订阅时切换到数据库线程，已处于数据库线程时（如：事务内的嵌套调用）直接在当前线程执行
+     *
+     * @param mono 需要调度的 Mono
+     * @param <R>  返回的数据类型
+     * @return 调度后的 Mono
+     */
+    public static <R> Mono<R> offload(Mono<R> mono) {
+        return Mono.defer(() -> isDaoThread() ? mono : mono.subscribeOn(daoScheduler));
+    }
+
+    /**
+     * 订阅时切换到数据库线程，已处于数据库线程时（如：事务内的嵌套调用）直接在当前线程执行
+     *
+     * @param flux 需要调度的 Flux
+     * @param <R>  元素类型
+     * @return 调度后的 Flux
+     */
+    public static <R> Flux<R> offload(Flux<R> flux) {
+        return Flux.defer(() -> isDaoThread() ? flux : flux.subscribeOn(daoScheduler));
+    }
+
+    /**
+     * 将 MDC 写入 Reactor Context，与 Context 中已有的 MDC 合并（同名的键以本次写入的值为准），
+     * 如：{@code chain.filter(exchange).subscriberContext(SchedulerUtil.withMdc(Map.of("traceId", traceId)))}
+     *
+     * @param mdc 需要传递到数据库线程的 MDC
+     * @return 用于 subscriberContext 的 Context 修改函数
+     */
+    public static Function<Context, Context> withMdc(Map<String, String> mdc) {
+        return context -> {
+            Map<String, String> existing = context.getOrDefault(MDC_CONTEXT_KEY, null);
+            var merged = existing == null ? new HashMap<String, String>() : new HashMap<>(existing);
+            merged.putAll(mdc);
+            return context.put(MDC_CONTEXT_KEY, Collections.unmodifiableMap(merged));
+        };
+    }
+
+    /**
+     * 当前线程是否为数据库线程
+     *
+     * @return true 表示当前处于数据库线程
+     */
+    public static boolean isDaoThread() {
+        return Thread.currentThread() instanceof DaoThread;
+    }
+
+    /**
+     * 在数据库线程上执行阻塞调用期间恢复 Reactor Context 中的上下文，结束后按相反顺序还原数据库线程原有的上下文
+     *
+     * @param callable 阻塞调用
+     * @param context  订阅者的 Reactor Context
+     * @param <R>      返回的数据类型
+     * @return 包装后的阻塞调用，所有传递器都没有捕获到上下文或已处于数据库线程（沿用外层调用的上下文）时原样返回
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <R> Callable<R> propagate(Callable<R> callable, Context context) {
+        if (isDaoThread()) {
+            return callable;
+        }
+        var current = propagators;
+        Object[] snapshots = null;
+        for (int i = 0; i < current.length; i++) {
+            var snapshot = current[i].capture(context);
+            if (snapshot != null) {
+                if (snapshots == null) {
+                    snapshots = new Object[current.length];
+                }
+                snapshots[i] = snapshot;
+            }
+        }
+        if (snapshots == null) {
+            return callable;
+        }
+        var captured = snapshots;
+        return () -> {
+            var previous = new Object[captured.length];
+            for (int i = 0; i < captured.length; i++) {
+                if (captured[i] != null) {
+                    previous[i] = current[i].restore(captured[i]);
+                }
+            }
+            try {
+                return callable.call();
+            } finally {
+                for (int i = captured.length - 1; i >= 0; i--) {
+                    if (captured[i] != null) {
+                        current[i].reset(previous[i]);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 数据库线程工厂
+     *
+     * @param threadNamePrefix 线程名前缀
+     * @return 线程工厂
+     */
+    public static ThreadFactory threadFactory(String threadNamePrefix) {
+        var counter = new AtomicLong();
+        return runnable -> new DaoThread(runnable, threadNamePrefix + counter.incrementAndGet());
+    }
+
+    /**
+     * 数据库线程，用于识别当前是否已处于数据库调度器中
+     */
+    private static final class DaoThread extends Thread {
+        private DaoThread(Runnable runnable, String name) {
+            super(runnable, name);
+            setDaemon(true);
+        }
+    }
+
+    //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired
+    private void daoScheduler(@Qualifier("daoScheduler") Scheduler daoScheduler) {
+        setDaoScheduler(daoScheduler);
+    }
+
+    private static void setDaoScheduler(Scheduler daoScheduler) {
+        SchedulerUtil.daoScheduler = daoScheduler;
+    }
+
+    @Autowired(required = false)
+    private void contextPropagators(List<ReactorContextPropagator<?>> propagators) {
+        setPropagators(propagators);
+    }
+
+    /**
+     * 在默认的传递器之后追加容器中的传递器
+     *
+     * @param propagators 自定义的传递器
+     */
+    private static void setPropagators(List<ReactorContextPropagator<?>> propagators) {
+        var all = new ArrayList<ReactorContextPropagator<?>>(ReactorContextPropagators.defaults());
+        propagators.stream().filter(propagator -> !all.contains(propagator)).forEach(all::add);
+        SchedulerUtil.propagators = all.toArray(new ReactorContextPropagator[0]);
+    }
+
+}
@@ -0,0 +1,16 @@
+package org.cloud.bi.dao;
+
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 描述：测试使用的 Spring 应用，数据源为 MySQL 模式的 H2 内存数据库。
+ * Mapper 扫描只注册继承 BaseMapper 的接口，避免同一包下的 Service 接口被注册为 Mapper
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@MapperScan(basePackages = "org.cloud.bi.dao.sample", markerInterface = BaseMapper.class)
+@SpringBootApplication
+public class DaoTestApplication {
+}
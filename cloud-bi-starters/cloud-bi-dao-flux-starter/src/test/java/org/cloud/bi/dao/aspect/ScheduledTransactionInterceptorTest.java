@@ -0,0 +1,155 @@
+package org.cloud.bi.dao.aspect;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.cloud.bi.dao.DaoTestApplication;
+import org.cloud.bi.dao.sample.Item;
+import org.cloud.bi.dao.sample.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：响应式事务拦截器的压力测试，连接池与数据库线程均为 4，并发数远大于线程数；
+ * 同时校验所有 JDBC 调用都在数据库线程上执行，不会落在订阅线程（模拟的事件循环线程）上
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@SpringBootTest(classes = DaoTestApplication.class)
+@Import(ScheduledTransactionInterceptorTest.ThreadRecorder.class)
+class ScheduledTransactionInterceptorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String DAO_THREAD_PREFIX = "Dao-Scheduler-";
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ThreadRecorder threadRecorder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM item");
+        threadRecorder.threads.clear();
+    }
+
+    @AfterEach
+    void onlyDaoThreadsTouchJdbc() {
+        assertFalse(threadRecorder.threads.isEmpty());
+        for (var thread : threadRecorder.threads) {
+            assertTrue(thread.startsWith(DAO_THREAD_PREFIX), "JDBC call on thread " + thread);
+        }
+    }
+
+    @Test
+    void concurrentTransactionsCompleteWithoutDeadlock() {
+        var saved = Flux.range(0, 200)
+                .flatMap(i -> itemService.saveEach(items(i * 5L, 5)).subscribeOn(Schedulers.parallel()), 200)
+                .reduce(0, Integer::sum)
+                .block(TIMEOUT);
+
+        assertEquals(1000, saved);
+        assertEquals(1000L, itemService.findCount().block(TIMEOUT));
+    }
+
+    @Test
+    void failedTransactionRollsBack() {
+        var items = items(0, 3);
+        items.add(new Item(1L, "duplicate", 1L));
+
+        assertThrows(RuntimeException.class, () -> itemService.saveEach(items).block(TIMEOUT));
+        assertEquals(0L, itemService.findCount().block(TIMEOUT));
+    }
+
+    @Test
+    void transactionalFluxIsRejected() {
+        var error = assertThrows(IllegalStateException.class,
+                () -> itemService.saveAndEmit(items(0, 3)).blockLast(TIMEOUT));
+
+        assertTrue(error.getMessage().contains("saveAndEmit"));
+        assertEquals(0L, itemService.findCount().block(TIMEOUT));
+    }
+
+    @Test
+    void fallbackFluxRunsWithoutTransaction() {
+        itemService.saveByList(items(0, 10)).block(TIMEOUT);
+
+        assertEquals(10L, itemService.listAll().count().block(TIMEOUT));
+        // 每个方法只输出一次警告，重复订阅同样以非事务方式执行
+        assertEquals(10L, itemService.listAll().count().block(TIMEOUT));
+    }
+
+    @Test
+    void concurrentCursorsAreReleasedOnCancel() {
+        itemService.saveByList(items(0, 1000)).block(TIMEOUT);
+
+        // 每个游标只读取前 10 条后取消订阅，游标未关闭时连接会被耗尽
+        var read = Flux.range(0, 100)
+                .flatMap(i -> itemService.findAll().take(10).count().subscribeOn(Schedulers.parallel()), 100)
+                .reduce(0L, Long::sum)
+                .block(TIMEOUT);
+
+        assertEquals(1000L, read);
+        assertEquals(1000L, itemService.findCount().block(TIMEOUT));
+    }
+
+    @Test
+    void cursorsCancelledFromAnotherThreadAreReleased() {
+        itemService.saveByList(items(0, 1000)).block(TIMEOUT);
+
+        // 元素切换到其他线程后再取消订阅，关闭会话的操作排在数据库线程的读取之后
+        var read = Flux.range(0, 100)
+                .flatMap(i -> itemService.findAll().publishOn(Schedulers.parallel()).take(10).count(), 100)
+                .reduce(0L, Long::sum)
+                .block(TIMEOUT);
+
+        assertEquals(1000L, read);
+        assertEquals(1000L, itemService.findCount().block(TIMEOUT));
+    }
+
+    private static List<Item> items(long from, int size) {
+        var items = new ArrayList<Item>(size);
+        for (var id = from; id < from + size; id++) {
+            items.add(new Item(id, "item-" + id, id));
+        }
+        return items;
+    }
+
+    /**
+     * 记录准备 JDBC 语句的线程名（JdbcTemplate 的清理语句不经过 MyBatis，不会被记录）
+     */
+    @Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+    static class ThreadRecorder implements Interceptor {
+
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            threads.add(Thread.currentThread().getName());
+            return invocation.proceed();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.cloud.bi.dao.sample;
+
+import org.cloud.bi.dao.mapper.BaseMapper;
+
+/**
+ * 描述：测试使用的 Mapper，只实现测试用到的语句
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface ItemMapper extends BaseMapper<Long, Item> {
+
+    /**
+     * 查询表中的总条数
+     *
+     * @return 总条数
+     */
+    long countAll();
+}
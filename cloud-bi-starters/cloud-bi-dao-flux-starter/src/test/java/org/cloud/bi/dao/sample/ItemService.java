@@ -0,0 +1,51 @@
+package org.cloud.bi.dao.sample;
+
+import org.cloud.bi.dao.service.BaseService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 描述：测试使用的 Service，包路径满足 TransactionAspect 的切点表达式
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface ItemService extends BaseService<Long, Item> {
+
+    /**
+     * 在同一个事务内逐条保存，任意一条失败时全部回滚
+     *
+     * @param items 需要保存的对象
+     * @return 保存的条数
+     */
+    default Mono<Integer> saveEach(List<Item> items) {
+        return Flux.fromIterable(items).concatMap(this::save).reduce(0, Integer::sum);
+    }
+
+    /**
+     * 需要事务且返回 Flux 的方法，订阅时以错误结束
+     *
+     * @param items 需要保存的对象
+     * @return 每条保存的条数
+     */
+    default Flux<Integer> saveAndEmit(List<Item> items) {
+        return Flux.fromIterable(items).concatMap(this::save);
+    }
+
+    /**
+     * 未匹配任何事务方法名前缀且返回 Flux 的方法，以非事务方式流式读取
+     *
+     * @return 全部对象
+     */
+    default Flux<Item> listAll() {
+        return findAll();
+    }
+
+    /**
+     * 查询表中的总条数
+     *
+     * @return 总条数
+     */
+    Mono<Long> findCount();
+}
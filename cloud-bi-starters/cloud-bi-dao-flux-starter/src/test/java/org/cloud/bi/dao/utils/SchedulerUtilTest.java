@@ -0,0 +1,95 @@
+package org.cloud.bi.dao.utils;
+
+import org.cloud.bi.dao.DaoTestApplication;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：Reactor Context 中的 MDC 与自定义上下文在数据库线程上恢复，结束后还原
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@SpringBootTest(classes = DaoTestApplication.class)
+@Import(SchedulerUtilTest.TenantPropagator.class)
+class SchedulerUtilTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String TENANT_CONTEXT_KEY = "test.tenant";
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    @Test
+    void mdcIsRestoredOnDaoThread() {
+        var seen = SchedulerUtil.mono(() -> List.of(Thread.currentThread().getName(), MDC.get("traceId")))
+                .subscriberContext(SchedulerUtil.withMdc(Map.of("traceId", "t-1")))
+                .block(TIMEOUT);
+
+        assertTrue(seen.get(0).startsWith("Dao-Scheduler-"), seen.get(0));
+        assertEquals("t-1", seen.get(1));
+        // 阻塞调用结束后清除数据库线程上的 MDC
+        assertNull(SchedulerUtil.mono(() -> MDC.get("traceId")).block(TIMEOUT));
+    }
+
+    @Test
+    void withMdcMergesWithExistingMdc() {
+        var seen = SchedulerUtil.mono(() -> MDC.get("traceId") + "/" + MDC.get("userId"))
+                .subscriberContext(SchedulerUtil.withMdc(Map.of("traceId", "t-2")))
+                .subscriberContext(SchedulerUtil.withMdc(Map.of("traceId", "t-1", "userId", "u-1")))
+                .block(TIMEOUT);
+
+        assertEquals("t-2/u-1", seen);
+    }
+
+    @Test
+    void registeredPropagatorIsApplied() {
+        var seen = SchedulerUtil.mono(TENANT::get)
+                .subscriberContext(Context.of(TENANT_CONTEXT_KEY, "tenant-1"))
+                .block(TIMEOUT);
+
+        assertEquals("tenant-1", seen);
+        assertEquals(Boolean.TRUE, SchedulerUtil.mono(() -> TENANT.get() == null).block(TIMEOUT));
+    }
+
+    @Test
+    void emptyContextIsNotPropagated() {
+        assertNull(Mono.defer(() -> SchedulerUtil.mono(() -> MDC.get("traceId"))).block(TIMEOUT));
+    }
+
+    /**
+     * 将 Reactor Context 中的租户传递到数据库线程的 ThreadLocal
+     */
+    static class TenantPropagator implements ReactorContextPropagator<String> {
+
+        @Override
+        public String capture(Context context) {
+            return context.getOrDefault(TENANT_CONTEXT_KEY, null);
+        }
+
+        @Override
+        public String restore(String snapshot) {
+            var previous = TENANT.get();
+            TENANT.set(snapshot);
+            return previous;
+        }
+
+        @Override
+        public void reset(String previous) {
+            if (previous == null) {
+                TENANT.remove();
+            } else {
+                TENANT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+DROP TABLE IF EXISTS item;
+
+CREATE TABLE item
+(
+    id     BIGINT PRIMARY KEY,
+    name   VARCHAR(128) NOT NULL,
+    amount BIGINT       NOT NULL
+);
@@ -1,7 +1,26 @@
 package org.cloud.bi.dao;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.cloud.bi.dao.cache.EntityCache;
+import org.cloud.bi.dao.cache.EntityCacheMetrics;
+import org.cloud.bi.dao.cache.GuavaEntityCache;
+import org.cloud.bi.dao.monitor.MicrometerStatementObserver;
+import org.cloud.bi.dao.monitor.MicrometerTransactionObserver;
+import org.cloud.bi.dao.monitor.MonitoredDataSourcePostProcessor;
+import org.cloud.bi.dao.monitor.StatementObserver;
+import org.cloud.bi.dao.monitor.TransactionObserver;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.cloud.bi.dao.routing.RoutingDataSourcePostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * 描述：Starter 入口类
@@ -10,5 +29,69 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @ComponentScan
+@EnableConfigurationProperties(DaoStarterProperties.class)
 public class DaoAutoConfiguration {
+
+    /**
+     * 实体缓存，可通过注册自定义的 EntityCache Bean 替换
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public EntityCache entityCache(DaoStarterProperties daoStarterProperties) {
+        return new GuavaEntityCache(daoStarterProperties.getEntityCache());
+    }
+
+    /**
+     * 读写分离，将 dataSource 替换为路由数据源。后置处理器需要提前实例化，因此直接从环境中绑定配置
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cloud-bi-dao.routing", name = "enabled", havingValue = "true")
+    public static RoutingDataSourcePostProcessor routingDataSourcePostProcessor(Environment environment) {
+        var routing = Binder.get(environment)
+                .bind("cloud-bi-dao.routing", DaoStarterProperties.Routing.class)
+                .orElseGet(DaoStarterProperties.Routing::new);
+        return new RoutingDataSourcePostProcessor(routing);
+    }
+
+    /**
+     * 记录连接等待与占用时间，包装 dataSource。后置处理器需要提前实例化，观察者在首次获取连接时才会获取
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cloud-bi-dao.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static MonitoredDataSourcePostProcessor monitoredDataSourcePostProcessor(ObjectProvider<TransactionObserver> transactionObserver) {
+        return new MonitoredDataSourcePostProcessor(transactionObserver);
+    }
+
+    /**
+     * 存在 Micrometer 时注册实体缓存、事务与连接、SQL 执行的统计指标
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MetricsConfiguration {
+
+        @Bean
+        public EntityCacheMetrics entityCacheMetrics(EntityCache entityCache) {
+            return new EntityCacheMetrics(entityCache);
+        }
+
+        /**
+         * 事务与连接的统计指标，不存在 MeterRegistry 时不做任何处理
+         */
+        @Bean
+        @ConditionalOnMissingBean(TransactionObserver.class)
+        public TransactionObserver transactionObserver(ObjectProvider<MeterRegistry> meterRegistry) {
+            var registry = meterRegistry.getIfAvailable();
+            return registry == null ? TransactionObserver.NOOP : new MicrometerTransactionObserver(registry);
+        }
+
+        /**
+         * SQL 执行时间与行数的统计指标，不存在 MeterRegistry 时不做任何处理
+         */
+        @Bean
+        @ConditionalOnMissingBean(StatementObserver.class)
+        public StatementObserver statementObserver(ObjectProvider<MeterRegistry> meterRegistry) {
+            var registry = meterRegistry.getIfAvailable();
+            return registry == null ? StatementObserver.NOOP : new MicrometerStatementObserver(registry);
+        }
+    }
 }
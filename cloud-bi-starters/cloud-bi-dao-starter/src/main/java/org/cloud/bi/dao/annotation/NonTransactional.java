@@ -0,0 +1,15 @@
+package org.cloud.bi.dao.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 描述：不需要事务的方法（如：纯内存计算、只调用外部接口），TransactionAspect 不会为其织入事务拦截器。
+ * 标注在类或接口上时对其中所有方法生效，方法上的 {@link UseTransaction} 优先
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface NonTransactional {
+}
@@ -0,0 +1,35 @@
+package org.cloud.bi.dao.aspect;
+
+import org.cloud.bi.dao.monitor.TransactionMonitor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+/**
+ * 描述：事务开启后交由 {@link TransactionMonitor} 登记的事务拦截器，无需额外织入切面
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class MonitoredTransactionInterceptor extends TransactionInterceptor {
+
+    private final transient TransactionMonitor transactionMonitor;
+
+    public MonitoredTransactionInterceptor(TransactionManager transactionManager, TransactionAttributeSource source,
+                                           TransactionMonitor transactionMonitor) {
+        super(transactionManager, source);
+        this.transactionMonitor = transactionMonitor;
+    }
+
+    @Override
+    protected TransactionInfo createTransactionIfNecessary(PlatformTransactionManager tm, TransactionAttribute txAttr,
+                                                           String joinpointIdentification) {
+        var txInfo = super.createTransactionIfNecessary(tm, txAttr, joinpointIdentification);
+        if (txInfo.hasTransaction()) {
+            transactionMonitor.onTransactionBegin(txInfo.getJoinpointIdentification(), txInfo.getTransactionAttribute(),
+                    txInfo.getTransactionStatus());
+        }
+        return txInfo;
+    }
+}
@@ -1,9 +1,13 @@
 package org.cloud.bi.dao.aspect;
 
 import lombok.extern.log4j.Log4j2;
+import org.cloud.bi.dao.monitor.TransactionMonitor;
 import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
 import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.ComposablePointcut;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
@@ -11,6 +15,7 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.interceptor.*;
 
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 
@@ -31,6 +36,9 @@ public class TransactionAspect {
     @Autowired
     private TransactionManager transactionManager;
 
+    @Autowired
+    private TransactionMonitor transactionMonitor;
+
     @Bean
     public TransactionInterceptor txAdvice() {
         var source = new NameMatchTransactionAttributeSource();
@@ -45,6 +53,11 @@ public class TransactionAspect {
         requiredTx.setRollbackRules(Collections.singletonList(new RollbackRuleAttribute(Exception.class)));
         requiredTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
 
+        // 流式读取需要在整个读取过程中占用同一个连接，因此开启只读事务
+        var streamTx = new RuleBasedTransactionAttribute();
+        streamTx.setReadOnly(true);
+        streamTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+
         var txMap = new HashMap<String, TransactionAttribute>(16);
 
         // 配置需要事务的方法前缀
@@ -53,6 +66,7 @@ public class TransactionAspect {
         txMap.put("insert*", requiredTx);
         txMap.put("create*", requiredTx);
         txMap.put("batch*", requiredTx);
+        txMap.put("upsert*", requiredTx);
         txMap.put("update*", requiredTx);
         txMap.put("modify*", requiredTx);
         txMap.put("delete*", requiredTx);
@@ -62,21 +76,40 @@ public class TransactionAspect {
         txMap.put("query*", readOnlyTx);
         txMap.put("find*", readOnlyTx);
         txMap.put("select*", readOnlyTx);
+        txMap.put("stream*", streamTx);
         // 除此之外的方法添加事务
         txMap.put("*", requiredTx);
         source.setNameMap(txMap);
 
-        return new TransactionInterceptor(transactionManager, source);
+        // 事务开启后登记到事务监控，记录持续时间、回滚次数并检查长事务
+        return new MonitoredTransactionInterceptor(transactionManager, new CachingTransactionAttributeSource(source),
+                transactionMonitor);
     }
 
     /**
-     * 事务注册
+     * 事务注册，没有事务属性的方法（如：@NonTransactional）不织入事务拦截器
      */
     @Bean
     public Advisor txAdviceAdvisor(TransactionInterceptor txAdvice) {
         var pointcut = new AspectJExpressionPointcut();
         pointcut.setExpression(AOP_POINTCUT_EXPRESSION);
-        return new DefaultPointcutAdvisor(pointcut, txAdvice);
+        return new DefaultPointcutAdvisor(transactionalPointcut(pointcut, txAdvice.getTransactionAttributeSource()), txAdvice);
+    }
+
+    /**
+     * 在切点表达式的基础上排除没有事务属性的方法
+     *
+     * @param pointcut 切点表达式
+     * @param source   事务属性
+     * @return 组合后的切点
+     */
+    private static Pointcut transactionalPointcut(Pointcut pointcut, TransactionAttributeSource source) {
+        return new ComposablePointcut(pointcut).intersection(new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return source.getTransactionAttribute(method, targetClass) != null;
+            }
+        });
     }
 
 }
@@ -0,0 +1,244 @@
+package org.cloud.bi.dao.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 描述：将对象逐行序列化为 LOAD DATA 默认文本格式的输入流，供驱动在发送数据时按需读取，不生成临时文件。
+ * <p>
+ * 格式与 {@code FIELDS TERMINATED BY '\t' ESCAPED BY '\\' LINES TERMINATED BY '\n'} 对应：字段以制表符分隔，
+ * 每行以换行符结束，字段中的 \、制表符、换行符、回车符以及 NUL 以反斜杠转义，null 输出为 \N，字符集为 UTF-8。
+ * 只有驱动读取时才会从数据源中取出下一行，读取速度即数据库的写入速度；每个输入流最多输出 maxRows 行，
+ * 数据源中剩余的数据留给下一个批次
+ *
+ * @param <T> 对象类型
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class LoadDataInputStream<T> extends InputStream {
+
+    private static final byte[] NULL = {'\\', 'N'};
+    private static final byte FIELD_TERMINATOR = '\t';
+    private static final byte LINE_TERMINATOR = '\n';
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSS");
+
+    private final Iterator<? extends T> source;
+    private final List<Function<? super T, ?>> columns;
+    private final long maxRows;
+    /**
+     * 当前行序列化后的数据
+     */
+    private byte[] buffer = new byte[256];
+    private int position;
+    private int limit;
+    private long rows;
+
+    /**
+     * @param source  数据源
+     * @param columns 各列的取值方式，顺序与 LOAD DATA 语句中的列一致
+     * @param maxRows 最多输出的行数
+     */
+    public LoadDataInputStream(Iterator<? extends T> source, List<Function<? super T, ?>> columns, long maxRows) {
+        this.source = source;
+        this.columns = columns;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !this.fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        var read = 0;
+        while (read < len) {
+            if (position == limit && !this.fill()) {
+                return read == 0 ? -1 : read;
+            }
+            var n = Math.min(len - read, limit - position);
+            System.arraycopy(buffer, position, b, off + read, n);
+            position += n;
+            read += n;
+        }
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    /**
+     * 已经取出的行数
+     *
+     * @return 行数
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * 跳过本批次尚未读取的行，数据库执行失败时使下一个批次从本批次的边界开始
+     *
+     * @return 跳过的行数
+     */
+    public long skipRemaining() {
+        var skipped = 0L;
+        while (rows < maxRows && source.hasNext()) {
+            source.next();
+            rows++;
+            skipped++;
+        }
+        position = limit;
+        return skipped;
+    }
+
+    /**
+     * 序列化下一行
+     *
+     * @return false 表示已经没有数据
+     * @throws IOException 取值或序列化失败，由驱动结束本次发送
+     */
+    private boolean fill() throws IOException {
+        if (rows >= maxRows || !source.hasNext()) {
+            return false;
+        }
+        T row = source.next();
+        rows++;
+        position = 0;
+        limit = 0;
+        try {
+            for (var i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    this.append(FIELD_TERMINATOR);
+                }
+                this.appendValue(columns.get(i).apply(row));
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to serialize row " + rows, e);
+        }
+        this.append(LINE_TERMINATOR);
+        return true;
+    }
+
+    private void appendValue(Object value) {
+        if (value == null) {
+            this.append(NULL, 0, NULL.length);
+            return;
+        }
+        if (value instanceof byte[]) {
+            this.appendEscaped((byte[]) value);
+            return;
+        }
+        this.appendEscaped(format(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 转义特殊字符，UTF-8 多字节字符的各个字节均不在 ASCII 范围内，因此可以按字节转义
+     */
+    private void appendEscaped(byte[] bytes) {
+        this.ensureCapacity(bytes.length * 2);
+        for (var b : bytes) {
+            switch (b) {
+                case '\\':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = '\\';
+                    break;
+                case '\t':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = 't';
+                    break;
+                case '\n':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = 'n';
+                    break;
+                case '\r':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = 'r';
+                    break;
+                case 0:
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = '0';
+                    break;
+                default:
+                    buffer[limit++] = b;
+                    break;
+            }
+        }
+    }
+
+    private void append(byte b) {
+        this.ensureCapacity(1);
+        buffer[limit++] = b;
+    }
+
+    private void append(byte[] bytes, int offset, int length) {
+        this.ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, limit, length);
+        limit += length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (limit + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, limit + extra));
+        }
+    }
+
+    /**
+     * 将字段值格式化为 MySQL 能够识别的文本
+     *
+     * @param value 字段值
+     * @return 文本
+     */
+    private static String format(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof LocalDateTime) {
+            return DATE_TIME.format((LocalDateTime) value);
+        }
+        if (value instanceof LocalTime) {
+            return TIME.format((LocalTime) value);
+        }
+        if (value instanceof LocalDate) {
+            return value.toString();
+        }
+        if (value instanceof OffsetDateTime) {
+            return DATE_TIME.format(((OffsetDateTime) value).atZoneSameInstant(ZoneId.systemDefault()));
+        }
+        if (value instanceof ZonedDateTime) {
+            return DATE_TIME.format(((ZonedDateTime) value).withZoneSameInstant(ZoneId.systemDefault()));
+        }
+        if (value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)) {
+            return DATE_TIME.format(LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault()));
+        }
+        return value.toString();
+    }
+}
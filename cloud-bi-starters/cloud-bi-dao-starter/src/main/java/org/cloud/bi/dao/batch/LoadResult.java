@@ -0,0 +1,121 @@
+package org.cloud.bi.dao.batch;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 描述：LOAD DATA 批量导入的结果，按照批次记录发送的行数、写入的行数、警告数以及失败原因
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Getter
+@ToString
+public class LoadResult {
+
+    /**
+     * 各批次的结果
+     */
+    private final List<Chunk> chunks = new ArrayList<>();
+    /**
+     * 从数据源取出的总行数
+     */
+    private long rows;
+    /**
+     * 数据库写入的总行数，主键或唯一键冲突被忽略的行不计入
+     */
+    private long loadedRows;
+    /**
+     * 数据库返回的总警告数，如：数据被截断、类型转换
+     */
+    private long warnings;
+
+    /**
+     * 记录一个批次的结果
+     *
+     * @param chunk 批次结果
+     */
+    public void add(Chunk chunk) {
+        chunks.add(chunk);
+        rows += chunk.rows;
+        loadedRows += chunk.loadedRows;
+        warnings += chunk.warnings;
+    }
+
+    /**
+     * 是否所有批次都执行成功
+     *
+     * @return true 表示没有失败的批次
+     */
+    public boolean isSuccess() {
+        return chunks.stream().allMatch(Chunk::isSuccess);
+    }
+
+    /**
+     * 获取失败的批次
+     *
+     * @return 失败的批次
+     */
+    public List<Chunk> getFailedChunks() {
+        var failed = new ArrayList<Chunk>();
+        chunks.forEach(chunk -> {
+            if (!chunk.isSuccess()) {
+                failed.add(chunk);
+            }
+        });
+        return Collections.unmodifiableList(failed);
+    }
+
+    @Getter
+    @ToString
+    public static class Chunk {
+        /**
+         * 批次序号，从 0 开始
+         */
+        private final int index;
+        /**
+         * 本批次从数据源取出的行数
+         */
+        private final long rows;
+        /**
+         * 本批次数据库写入的行数
+         */
+        private final long loadedRows;
+        /**
+         * 本批次数据库返回的警告数
+         */
+        private final long warnings;
+        /**
+         * 第一条警告信息
+         */
+        private final String firstWarning;
+        /**
+         * 本批次失败的原因，成功时为 null
+         */
+        private final Exception error;
+
+        private Chunk(int index, long rows, long loadedRows, long warnings, String firstWarning, Exception error) {
+            this.index = index;
+            this.rows = rows;
+            this.loadedRows = loadedRows;
+            this.warnings = warnings;
+            this.firstWarning = firstWarning;
+            this.error = error;
+        }
+
+        public static Chunk success(int index, long rows, long loadedRows, long warnings, String firstWarning) {
+            return new Chunk(index, rows, loadedRows, warnings, firstWarning, null);
+        }
+
+        public static Chunk failure(int index, long rows, Exception error) {
+            return new Chunk(index, rows, 0, 0, null, error);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.cloud.bi.dao.batch;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 描述：INSERT ... ON DUPLICATE KEY UPDATE 的执行结果，只包含提交的条数与数据库返回的影响行数。
+ * <p>
+ * 影响行数的含义取决于驱动配置，无法据此准确区分新增与更新的条数：
+ * <ul>
+ *     <li>Connector/J 默认（useAffectedRows=false，即 CLIENT_FOUND_ROWS）：新增的行计 1，值发生变化的已有行计 2，值未变化的已有行计 1</li>
+ *     <li>开启 useAffectedRows：值未变化的已有行计 0</li>
+ *     <li>批量执行时驱动返回 SUCCESS_NO_INFO：按照批次的条数计算，不反映实际的新增与更新</li>
+ * </ul>
+ * 需要准确的新增与更新条数时，应在写入前查询已有的主键
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Getter
+@ToString
+public class UpsertResult {
+
+    /**
+     * 空结果
+     */
+    public static final UpsertResult EMPTY = new UpsertResult(0, 0);
+
+    /**
+     * 提交的条数
+     */
+    private final int rows;
+    /**
+     * 数据库返回的影响行数，驱动返回 SUCCESS_NO_INFO 的批次按照批次的条数计算
+     */
+    private final int affectedRows;
+
+    private UpsertResult(int rows, int affectedRows) {
+        this.rows = rows;
+        this.affectedRows = affectedRows;
+    }
+
+    /**
+     * 根据提交的条数与影响行数构建执行结果
+     *
+     * @param rows         提交的条数
+     * @param affectedRows 影响行数
+     * @return 执行结果
+     */
+    public static UpsertResult of(int rows, int affectedRows) {
+        if (rows <= 0) {
+            return EMPTY;
+        }
+        return new UpsertResult(rows, affectedRows);
+    }
+
+    /**
+     * 值发生变化的已有行数的估算值（影响行数 - 提交的条数），仅供参考：
+     * 开启 useAffectedRows 时未变化的行会抵消更新的行，驱动返回 SUCCESS_NO_INFO 时恒为 0
+     *
+     * @return 估算的更新条数，范围为 0 ~ 提交的条数
+     */
+    public int getEstimatedUpdatedRows() {
+        return Math.min(Math.max(affectedRows - rows, 0), rows);
+    }
+}
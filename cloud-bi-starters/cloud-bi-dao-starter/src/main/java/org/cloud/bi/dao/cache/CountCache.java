@@ -0,0 +1,91 @@
+package org.cloud.bi.dao.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 描述：分页总数缓存，按照 Mapper 命名空间隔离，命名空间内任意写操作后整体失效
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+public class CountCache {
+
+    /**
+     * 命名空间 -> (查询语句及条件 -> 总数)
+     */
+    private final Map<String, Map<String, Entry>> caches = new ConcurrentHashMap<>();
+
+    @Autowired
+    private DaoStarterProperties daoStarterProperties;
+
+    /**
+     * 获取缓存的总数
+     *
+     * @param namespace Mapper 命名空间
+     * @param key       查询语句及条件
+     * @return 未缓存或已过期时返回空
+     */
+    public OptionalLong get(String namespace, String key) {
+        var cache = caches.get(namespace);
+        var entry = cache == null ? null : cache.get(key);
+        if (entry == null) {
+            return OptionalLong.empty();
+        }
+        if (entry.isExpired()) {
+            cache.remove(key, entry);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(entry.total);
+    }
+
+    /**
+     * 缓存总数，超过容量时优先淘汰已过期的条目，仍然超过时清空该命名空间
+     *
+     * @param namespace Mapper 命名空间
+     * @param key       查询语句及条件
+     * @param total     总数
+     */
+    public void put(String namespace, String key, long total) {
+        var config = daoStarterProperties.getCountCache();
+        var cache = caches.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>(16));
+        if (cache.size() >= config.getMaximumSize()) {
+            cache.values().removeIf(Entry::isExpired);
+            if (cache.size() >= config.getMaximumSize()) {
+                cache.clear();
+            }
+        }
+        cache.put(key, new Entry(total, System.nanoTime() + config.getTtl().toNanos()));
+    }
+
+    /**
+     * 使该命名空间下的缓存失效
+     *
+     * @param namespace Mapper 命名空间
+     */
+    public void evict(String namespace) {
+        caches.remove(namespace);
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        /**
+         * 总数
+         */
+        private final long total;
+        /**
+         * 过期时间（System.nanoTime）
+         */
+        private final long expireAt;
+
+        private boolean isExpired() {
+            return System.nanoTime() - expireAt > 0;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.cloud.bi.dao.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 描述：实体二级缓存，按照 Mapper 命名空间隔离，缓存 findById / findListByIdList 的查询结果。
+ * <p>
+ * 默认实现为 {@link GuavaEntityCache}，可通过注册自定义的 EntityCache Bean 替换。
+ * <p>
+ * 缓存的对象不做拷贝，命中时所有调用方拿到的是同一个实例，调用方不能修改返回的对象，需要修改时应先拷贝。
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface EntityCache {
+
+    /**
+     * 根据主键获取对象，未命中时通过 loader 加载并缓存，查询不到的结果同样会被缓存
+     *
+     * @param namespace Mapper 命名空间
+     * @param id        主键
+     * @param loader    未命中时的加载方式
+     * @param <T>       对象类型
+     * @return 对象信息
+     */
+    <T> Optional<T> get(String namespace, Object id, Supplier<Optional<T>> loader);
+
+    /**
+     * 根据主键集合批量获取对象，未命中的主键通过 loader 一次性加载
+     *
+     * @param namespace Mapper 命名空间
+     * @param ids       主键集合
+     * @param loader    未命中主键的加载方式，返回主键与对象的映射
+     * @param <ID>      主键类型
+     * @param <T>       对象类型
+     * @return 主键与对象的映射，不包含查询不到的主键
+     */
+    <ID, T> Map<ID, T> getAll(String namespace, Collection<ID> ids, Function<List<ID>, Map<ID, T>> loader);
+
+    /**
+     * 使该命名空间下的缓存失效
+     *
+     * @param namespace Mapper 命名空间
+     */
+    void evict(String namespace);
+
+    /**
+     * 使该命名空间下指定主键的缓存失效，默认使整个命名空间失效
+     *
+     * @param namespace Mapper 命名空间
+     * @param ids       主键集合
+     */
+    default void evict(String namespace, Collection<?> ids) {
+        evict(namespace);
+    }
+
+    /**
+     * 使该命名空间下查询不到的缓存结果失效，用于新增后主键未知的场景，默认使整个命名空间失效
+     *
+     * @param namespace Mapper 命名空间
+     */
+    default void evictMisses(String namespace) {
+        evict(namespace);
+    }
+
+    /**
+     * 获取各命名空间的命中、未命中、淘汰次数以及缓存的条数
+     *
+     * @return 命名空间与统计信息的映射
+     */
+    Map<String, EntityCacheStats> stats();
+}
@@ -0,0 +1,45 @@
+package org.cloud.bi.dao.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 描述：将实体缓存的命中、未命中、淘汰次数以及缓存的条数注册到 Micrometer，统计值为所有命名空间的合计
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class EntityCacheMetrics implements MeterBinder {
+
+    private final EntityCache entityCache;
+
+    public EntityCacheMetrics(EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cloud.bi.dao.entity.cache.gets", entityCache, total(EntityCacheStats::getHitCount))
+                .tag("result", "hit")
+                .description("实体缓存命中次数")
+                .register(registry);
+        FunctionCounter.builder("cloud.bi.dao.entity.cache.gets", entityCache, total(EntityCacheStats::getMissCount))
+                .tag("result", "miss")
+                .description("实体缓存未命中次数")
+                .register(registry);
+        FunctionCounter.builder("cloud.bi.dao.entity.cache.evictions", entityCache, total(EntityCacheStats::getEvictionCount))
+                .description("实体缓存因容量或过期被淘汰的次数")
+                .register(registry);
+        Gauge.builder("cloud.bi.dao.entity.cache.size", entityCache, total(EntityCacheStats::getSize))
+                .description("实体缓存当前缓存的条数")
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<EntityCache> total(ToLongFunction<EntityCacheStats> counter) {
+        return cache -> cache.stats().values().stream().mapToLong(counter).sum();
+    }
+}
@@ -0,0 +1,77 @@
+package org.cloud.bi.dao.cache;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 描述：实体缓存单个命名空间的统计信息，与具体的缓存实现无关
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Getter
+@ToString
+public class EntityCacheStats {
+
+    /**
+     * 空统计
+     */
+    public static final EntityCacheStats EMPTY = new EntityCacheStats(0, 0, 0, 0);
+
+    /**
+     * 命中次数
+     */
+    private final long hitCount;
+    /**
+     * 未命中次数
+     */
+    private final long missCount;
+    /**
+     * 因容量或过期被淘汰的次数，不包含主动失效
+     */
+    private final long evictionCount;
+    /**
+     * 当前缓存的条数（包含查询不到的结果），为近似值
+     */
+    private final long size;
+
+    private EntityCacheStats(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * 根据各项统计值构建统计信息
+     *
+     * @param hitCount      命中次数
+     * @param missCount     未命中次数
+     * @param evictionCount 淘汰次数
+     * @param size          当前缓存的条数
+     * @return 统计信息
+     */
+    public static EntityCacheStats of(long hitCount, long missCount, long evictionCount, long size) {
+        return new EntityCacheStats(hitCount, missCount, evictionCount, size);
+    }
+
+    /**
+     * 与另一个命名空间的统计信息合计
+     *
+     * @param other 另一个命名空间的统计信息
+     * @return 合计后的统计信息
+     */
+    public EntityCacheStats plus(EntityCacheStats other) {
+        return new EntityCacheStats(hitCount + other.hitCount, missCount + other.missCount,
+                evictionCount + other.evictionCount, size + other.size);
+    }
+
+    /**
+     * 命中率，没有请求时为 1
+     *
+     * @return 命中率
+     */
+    public double hitRate() {
+        var requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
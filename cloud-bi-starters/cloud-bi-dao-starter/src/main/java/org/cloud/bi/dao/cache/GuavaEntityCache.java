@@ -0,0 +1,155 @@
+package org.cloud.bi.dao.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 描述：基于 Guava Cache 的实体缓存，每个命名空间一个有界缓存，支持容量淘汰、过期时间以及空结果缓存。
+ * <p>
+ * 每个命名空间维护一个版本号，失效时（无论是整个命名空间、指定主键还是空结果）递增。
+ * 加载前记录版本号，写入缓存后若版本号已变化则撤销写入，避免加载期间发生的写操作被旧数据覆盖。
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class GuavaEntityCache implements EntityCache {
+
+    private final DaoStarterProperties.EntityCache config;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    public GuavaEntityCache(DaoStarterProperties.EntityCache config) {
+        this.config = config;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(String namespace, Object id, Supplier<Optional<T>> loader) {
+        var region = this.region(namespace);
+        var cached = region.cache.getIfPresent(id);
+        if (cached != null) {
+            return (Optional<T>) cached;
+        }
+        var version = region.version.get();
+        var value = loader.get();
+        region.put(version, id, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ID, T> Map<ID, T> getAll(String namespace, Collection<ID> ids, Function<List<ID>, Map<ID, T>> loader) {
+        var region = this.region(namespace);
+        var result = new LinkedHashMap<ID, T>(ids.size());
+        var missing = new LinkedHashSet<ID>();
+        for (ID id : ids) {
+            var cached = region.cache.getIfPresent(id);
+            if (cached == null) {
+                missing.add(id);
+            } else {
+                cached.ifPresent(value -> result.put(id, (T) value));
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        var version = region.version.get();
+        var loaded = loader.apply(new ArrayList<>(missing));
+        for (ID id : missing) {
+            var value = loaded.get(id);
+            region.put(version, id, Optional.ofNullable(value));
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void evict(String namespace) {
+        var region = regions.get(namespace);
+        if (region != null) {
+            region.version.incrementAndGet();
+            region.cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void evict(String namespace, Collection<?> ids) {
+        var region = regions.get(namespace);
+        if (region != null) {
+            region.version.incrementAndGet();
+            for (var id : ids) {
+                if (id != null) {
+                    region.cache.invalidate(id);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void evictMisses(String namespace) {
+        var region = regions.get(namespace);
+        if (region != null) {
+            region.version.incrementAndGet();
+            region.cache.asMap().values().removeIf(Optional::isEmpty);
+        }
+    }
+
+    @Override
+    public Map<String, EntityCacheStats> stats() {
+        var stats = new TreeMap<String, EntityCacheStats>();
+        regions.forEach((namespace, region) -> {
+            var guavaStats = region.cache.stats();
+            stats.put(namespace, EntityCacheStats.of(guavaStats.hitCount(), guavaStats.missCount(),
+                    guavaStats.evictionCount(), region.cache.size()));
+        });
+        return stats;
+    }
+
+    private Region region(String namespace) {
+        return regions.computeIfAbsent(namespace, k -> new Region(CacheBuilder.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build()));
+    }
+
+    private class Region {
+        /**
+         * 主键 -> 对象，查询不到时为 Optional.empty()
+         */
+        private final Cache<Object, Optional<?>> cache;
+        /**
+         * 缓存版本号，每次失效时递增
+         */
+        private final AtomicLong version = new AtomicLong();
+
+        private Region(Cache<Object, Optional<?>> cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * 写入加载的结果，加载期间缓存已失效时撤销写入
+         *
+         * @param loadVersion 加载前的版本号
+         * @param id          主键
+         * @param value       加载的结果
+         */
+        private void put(long loadVersion, Object id, Optional<?> value) {
+            if (id == null || (value.isEmpty() && !config.isCacheMisses())) {
+                return;
+            }
+            cache.put(id, value);
+            if (version.get() != loadVersion) {
+                cache.invalidate(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.cloud.bi.dao.interceptor;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：SQL 取消拦截器。JDBC 阻塞在网络读取时不响应线程中断，因此记录各线程正在执行的 Statement，
+ * 由守护线程定期检查，发现执行线程已被中断（如：异步任务超时）时调用 {@link Statement#cancel()} 终止该 SQL，
+ * 及时释放线程与连接
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+@Component
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})
+})
+public class StatementCancelInterceptor implements Interceptor, DisposableBean {
+
+    /**
+     * 执行线程 -> 正在执行的 Statement
+     */
+    private final Map<Thread, Statement> running = new ConcurrentHashMap<>();
+    private final DaoStarterProperties.StatementCancel config;
+    /**
+     * 检查执行线程的守护线程，未开启时为 null
+     */
+    private final ScheduledExecutorService watchdog;
+
+    public StatementCancelInterceptor(DaoStarterProperties daoStarterProperties) {
+        this.config = daoStarterProperties.getStatementCancel();
+        if (config.isEnabled()) {
+            var threadFactory = new CustomizableThreadFactory("Dao-Statement-Watchdog-");
+            threadFactory.setDaemon(true);
+            this.watchdog = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            var interval = config.getPollInterval().toMillis();
+            this.watchdog.scheduleWithFixedDelay(this::cancelInterrupted, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.watchdog = null;
+        }
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (watchdog == null || !config.isEnabled()) {
+            return invocation.proceed();
+        }
+        var thread = Thread.currentThread();
+        var statement = (Statement) invocation.getArgs()[0];
+        running.put(thread, statement);
+        try {
+            return invocation.proceed();
+        } finally {
+            running.remove(thread, statement);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+    }
+
+    /**
+     * 取消已被中断线程正在执行的 SQL
+     */
+    private void cancelInterrupted() {
+        running.forEach((thread, statement) -> {
+            if (thread.isInterrupted() && running.remove(thread, statement)) {
+                try {
+                    statement.cancel();
+                    log.warn("Cancelled statement of interrupted thread [{}]", thread.getName());
+                } catch (SQLException e) {
+                    log.warn("Failed to cancel statement of interrupted thread [{}]", thread.getName(), e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,184 @@
+package org.cloud.bi.dao.loader;
+
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.cloud.bi.dao.utils.CacheUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 描述：根据主键合并查询的加载器。
+ * <p>
+ * 同一 Mapper 在窗口期内（或达到单批次上限前）收到的主键查询会合并为一次 selectListByIdList，
+ * 查询中的主键再次被请求时直接复用同一个结果，适用于大量并发任务各自查询单条数据的场景。
+ * <p>
+ * 队列按照 Mapper 与主键的获取方式区分，获取方式应使用方法引用（如：User::getId），每次调用创建新实例的 Lambda 无法合并查询；
+ * 查询结果在 CompletableFuture 的默认异步线程池中完成，后续的回调不会占用执行合并查询的线程，阻塞的回调应通过 *Async(executor) 切换线程池
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+public class BatchLoader implements DisposableBean {
+
+    private final DaoStarterProperties.Loader config;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService executor;
+    private final Map<QueueKey, MapperQueue<?, ?>> queues = new ConcurrentHashMap<>();
+
+    public BatchLoader(DaoStarterProperties daoStarterProperties) {
+        this.config = daoStarterProperties.getLoader();
+        var timerFactory = new CustomizableThreadFactory("Dao-Loader-Timer-");
+        timerFactory.setDaemon(true);
+        this.timer = Executors.newSingleThreadScheduledExecutor(timerFactory);
+        var executorFactory = new CustomizableThreadFactory("Dao-Loader-");
+        executorFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(config.getThreads(), executorFactory);
+    }
+
+    /**
+     * 根据主键异步加载对象
+     *
+     * @param mapper   业务 Mapper
+     * @param id       主键
+     * @param idGetter 对象主键的获取方式，用于将查询结果与主键对应
+     * @param <ID>     主键类型
+     * @param <T>      对象类型
+     * @return 对象信息，查询不到时为空
+     */
+    @SuppressWarnings("unchecked")
+    public <ID, T> CompletableFuture<Optional<T>> load(BaseMapper<ID, T> mapper, ID id, Function<T, ID> idGetter) {
+        var queue = (MapperQueue<ID, T>) queues.computeIfAbsent(new QueueKey(mapper, idGetter),
+                k -> new MapperQueue<>(mapper, idGetter));
+        return queue.add(id);
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        executor.shutdown();
+    }
+
+    /**
+     * 单个 Mapper 的待查询队列
+     *
+     * @param <ID> 主键类型
+     * @param <T>  对象类型
+     */
+    private class MapperQueue<ID, T> {
+        private final BaseMapper<ID, T> mapper;
+        private final Function<T, ID> idGetter;
+        /**
+         * 查询中的主键，再次请求时复用同一个结果
+         */
+        private final Map<ID, CompletableFuture<Optional<T>>> inFlight = new HashMap<>();
+        /**
+         * 当前窗口期内待查询的主键
+         */
+        private Map<ID, CompletableFuture<Optional<T>>> pending;
+
+        private MapperQueue(BaseMapper<ID, T> mapper, Function<T, ID> idGetter) {
+            this.mapper = mapper;
+            this.idGetter = idGetter;
+        }
+
+        private synchronized CompletableFuture<Optional<T>> add(ID id) {
+            var future = inFlight.get(id);
+            if (future != null) {
+                return future;
+            }
+            if (pending == null) {
+                var batch = new LinkedHashMap<ID, CompletableFuture<Optional<T>>>();
+                pending = batch;
+                timer.schedule(() -> this.flush(batch), config.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            future = pending.computeIfAbsent(id, k -> new CompletableFuture<>());
+            if (pending.size() >= config.getMaxBatchSize()) {
+                this.dispatch();
+            }
+            return future;
+        }
+
+        /**
+         * 窗口期结束，该批次尚未因达到上限而提交时进行提交
+         *
+         * @param batch 窗口期开始时创建的批次
+         */
+        private synchronized void flush(Map<ID, CompletableFuture<Optional<T>>> batch) {
+            if (pending == batch) {
+                this.dispatch();
+            }
+        }
+
+        private void dispatch() {
+            var batch = pending;
+            pending = null;
+            inFlight.putAll(batch);
+            try {
+                executor.execute(() -> this.execute(batch));
+            } catch (RejectedExecutionException e) {
+                this.complete(batch, null, e);
+            }
+        }
+
+        private void execute(Map<ID, CompletableFuture<Optional<T>>> batch) {
+            try {
+                var rows = new HashMap<ID, T>(batch.size() * 2);
+                for (T t : CacheUtil.findListByIdList(mapper, new ArrayList<>(batch.keySet()), idGetter)) {
+                    rows.put(idGetter.apply(t), t);
+                }
+                this.complete(batch, rows, null);
+            } catch (Throwable e) {
+                this.complete(batch, null, e);
+            }
+        }
+
+        private void complete(Map<ID, CompletableFuture<Optional<T>>> batch, Map<ID, T> rows, Throwable error) {
+            synchronized (this) {
+                batch.forEach(inFlight::remove);
+            }
+            // 在默认异步线程池中完成，依赖的回调不在执行查询的线程上运行
+            batch.forEach((id, future) -> CompletableFuture.runAsync(() -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(Optional.ofNullable(rows.get(id)));
+                }
+            }));
+        }
+    }
+
+    /**
+     * 队列的标识，Mapper 与主键的获取方式均按照引用比较（MyBatis 的 Mapper 代理不满足 equals 自反性）
+     */
+    private static final class QueueKey {
+        private final BaseMapper<?, ?> mapper;
+        private final Function<?, ?> idGetter;
+
+        private QueueKey(BaseMapper<?, ?> mapper, Function<?, ?> idGetter) {
+            this.mapper = mapper;
+            this.idGetter = idGetter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QueueKey)) {
+                return false;
+            }
+            var other = (QueueKey) o;
+            return mapper == other.mapper && idGetter == other.idGetter;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mapper) + System.identityHashCode(idGetter);
+        }
+    }
+}
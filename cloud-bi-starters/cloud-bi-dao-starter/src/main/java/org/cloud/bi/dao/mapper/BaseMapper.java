@@ -2,6 +2,7 @@ package org.cloud.bi.dao.mapper;
 
 import com.github.pagehelper.Page;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,22 @@ public interface BaseMapper<ID, T> {
      */
     int insertByMap(@Param("param") Map<String, Object> param);
 
+    /**
+     * 保存对象，主键或唯一键冲突时更新，如：INSERT ... ON DUPLICATE KEY UPDATE name = VALUES(name)
+     *
+     * @param t 需要保存的对象
+     * @return 返回影响的行数，新增计 1，更新计 2
+     */
+    int upsert(T t);
+
+    /**
+     * 根据对象列表进行保存，主键或唯一键冲突时更新，以一条多行的 INSERT ... ON DUPLICATE KEY UPDATE 执行
+     *
+     * @param param 需要保存的对象列表
+     * @return 返回影响的行数，新增计 1，更新计 2
+     */
+    int upsertByList(@Param("param") List<T> param);
+
     /**
      * 根据对象进行删除
      *
@@ -102,6 +119,13 @@ public interface BaseMapper<ID, T> {
      */
     List<T> selectAll();
 
+    /**
+     * 以游标的方式查询所有数据，游标需在事务内读取
+     *
+     * @return 返回查询游标
+     */
+    Cursor<T> selectCursorAll();
+
     /**
      * 根据对象进行查询
      *
@@ -126,6 +150,14 @@ public interface BaseMapper<ID, T> {
      */
     List<T> selectList(T t);
 
+    /**
+     * 根据对象以游标的方式进行查询，游标需在事务内读取
+     *
+     * @param t 根据对象进行查询
+     * @return 返回查询游标
+     */
+    Cursor<T> selectCursor(T t);
+
     /**
      * 查询分页信息
      *
@@ -150,6 +182,18 @@ public interface BaseMapper<ID, T> {
      */
     Page<Map<String, Object>> selectMapByPage(@Param("param") Map<String, Object> param);
 
+    /**
+     * 游标（Keyset）分页查询，需按照排序键升序返回排序键大于 lastKey 的前 pageSize 条数据，
+     * 如：WHERE id &gt; #{lastKey} ORDER BY id LIMIT #{pageSize}
+     *
+     * @param param    根据 Map 进行查询
+     * @param lastKey  上一页最后一条数据的排序键，首页为 null
+     * @param pageSize 需要查询的条数
+     * @return 返回满足条件的列表对象
+     */
+    List<T> selectListBySeek(@Param("param") Map<String, Object> param, @Param("lastKey") Object lastKey,
+                             @Param("pageSize") int pageSize);
+
     /**
      * 根据 Map 进行查询
      *
@@ -158,6 +202,14 @@ public interface BaseMapper<ID, T> {
      */
     List<T> selectListByMap(@Param("param") Map<String, Object> param);
 
+    /**
+     * 根据 Map 以游标的方式进行查询，游标需在事务内读取
+     *
+     * @param param 根据 Map 进行查询
+     * @return 返回查询游标
+     */
+    Cursor<T> selectCursorByMap(@Param("param") Map<String, Object> param);
+
     /**
      * 根据 id 集合批量查询
      *
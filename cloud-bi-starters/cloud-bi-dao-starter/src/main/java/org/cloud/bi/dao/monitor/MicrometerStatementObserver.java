@@ -0,0 +1,71 @@
+package org.cloud.bi.dao.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.mapping.SqlCommandType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：基于 Micrometer 的 SQL 观察者：
+ * <ul>
+ *     <li>cloud.bi.dao.statement：执行时间（直方图），按照 statement、type、outcome（success / error）区分</li>
+ *     <li>cloud.bi.dao.statement.rows：查询返回的行数（type=SELECT）或写操作影响的行数（直方图）</li>
+ * </ul>
+ * 采样率小于 1 时指标中的次数为采样后的次数
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class MicrometerStatementObserver implements StatementObserver {
+
+    private final MeterRegistry registry;
+    /**
+     * statement id -> 该 SQL 的指标，避免每次执行都构建 Meter
+     */
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerStatementObserver(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onStatement(String statementId, SqlCommandType commandType, long durationNanos, long rows, Throwable error) {
+        var statementMeters = meters.computeIfAbsent(statementId, id -> new Meters(registry, id, commandType));
+        if (error != null) {
+            statementMeters.error.record(durationNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        statementMeters.success.record(durationNanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            statementMeters.rows.record(rows);
+        }
+    }
+
+    private static final class Meters {
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+
+        private Meters(MeterRegistry registry, String statementId, SqlCommandType commandType) {
+            var type = commandType.name();
+            this.success = timer(registry, statementId, type, "success");
+            this.error = timer(registry, statementId, type, "error");
+            this.rows = DistributionSummary.builder("cloud.bi.dao.statement.rows")
+                    .description("查询返回的行数或写操作影响的行数")
+                    .tags("statement", statementId, "type", type)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String statementId, String type, String outcome) {
+            return Timer.builder("cloud.bi.dao.statement")
+                    .description("SQL 执行时间")
+                    .tags("statement", statementId, "type", type, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
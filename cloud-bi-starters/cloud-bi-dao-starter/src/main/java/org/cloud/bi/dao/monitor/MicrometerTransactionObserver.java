@@ -0,0 +1,102 @@
+package org.cloud.bi.dao.monitor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 描述：基于 Micrometer 的事务与连接观察者：
+ * <ul>
+ *     <li>cloud.bi.dao.transaction：事务持续时间（直方图），按照 method、readOnly、outcome（commit / rollback）区分</li>
+ *     <li>cloud.bi.dao.transaction.long：持续时间超过阈值的事务数</li>
+ *     <li>cloud.bi.dao.connection.wait：获取连接的等待时间（直方图）</li>
+ *     <li>cloud.bi.dao.connection.hold：连接的占用时间（直方图）</li>
+ * </ul>
+ * 回滚次数即 outcome=rollback 的事务数
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class MicrometerTransactionObserver implements TransactionObserver {
+
+    private final MeterRegistry registry;
+    /**
+     * 方法 -> 该方法的事务指标，避免每次事务结束都构建 Meter
+     */
+    private final Map<String, Meters> transactions = new ConcurrentHashMap<>();
+    /**
+     * 方法 -> 该方法的长事务计数
+     */
+    private final Map<String, Counter> longTransactions = new ConcurrentHashMap<>();
+    private final Timer connectionWait;
+    private final Timer connectionHold;
+
+    public MicrometerTransactionObserver(MeterRegistry registry) {
+        this.registry = registry;
+        this.connectionWait = Timer.builder("cloud.bi.dao.connection.wait")
+                .description("从连接池获取连接的等待时间")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.connectionHold = Timer.builder("cloud.bi.dao.connection.hold")
+                .description("连接从获取到归还的占用时间")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public void onTransactionCompleted(String method, boolean readOnly, long durationNanos, boolean rolledBack) {
+        transactions.computeIfAbsent(method, Meters::new)
+                .timer(registry, readOnly, rolledBack)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onLongTransaction(String method) {
+        longTransactions.computeIfAbsent(method, m -> Counter.builder("cloud.bi.dao.transaction.long")
+                .description("持续时间超过阈值的事务数")
+                .tags("method", m)
+                .register(registry))
+                .increment();
+    }
+
+    @Override
+    public void onConnectionAcquired(long waitNanos) {
+        connectionWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onConnectionReleased(long holdNanos) {
+        connectionHold.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 单个方法的事务持续时间，按照 readOnly 与 outcome 组合在首次出现时注册
+     */
+    private static final class Meters {
+        private final String method;
+        private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(4);
+
+        private Meters(String method) {
+            this.method = method;
+        }
+
+        private Timer timer(MeterRegistry registry, boolean readOnly, boolean rolledBack) {
+            var index = (readOnly ? 2 : 0) + (rolledBack ? 1 : 0);
+            var timer = timers.get(index);
+            if (timer == null) {
+                // 并发注册时 MeterRegistry 返回同一个 Timer
+                timer = Timer.builder("cloud.bi.dao.transaction")
+                        .description("事务从开启到结束的持续时间")
+                        .tags("method", method, "readOnly", String.valueOf(readOnly), "outcome", rolledBack ? "rollback" : "commit")
+                        .publishPercentileHistogram()
+                        .register(registry);
+                timers.set(index, timer);
+            }
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.cloud.bi.dao.monitor;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * 描述：记录连接等待与占用时间的数据源，获取连接时记录等待时间，返回的连接在关闭（归还连接池）时记录占用时间
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+public class MonitoredDataSource extends DelegatingDataSource implements Closeable {
+
+    private final Supplier<TransactionObserver> observer;
+
+    /**
+     * @param targetDataSource 原数据源
+     * @param observer         观察者，在首次获取连接时才会调用，避免提前实例化 MeterRegistry
+     */
+    public MonitoredDataSource(DataSource targetDataSource, Supplier<TransactionObserver> observer) {
+        super(targetDataSource);
+        this.observer = observer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var start = System.nanoTime();
+        return monitored(obtainTargetDataSource().getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        var start = System.nanoTime();
+        return monitored(obtainTargetDataSource().getConnection(username, password), start);
+    }
+
+    @Override
+    public void close() {
+        var target = obtainTargetDataSource();
+        if (target instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) target).close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source", e);
+            }
+        }
+    }
+
+    private Connection monitored(Connection connection, long start) {
+        var acquiredAt = System.nanoTime();
+        var current = observer.get();
+        current.onConnectionAcquired(acquiredAt - start);
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new HoldTimeHandler(connection, acquiredAt, current));
+    }
+
+    /**
+     * 连接关闭时记录占用时间，其余方法直接委托给原连接
+     */
+    private static final class HoldTimeHandler implements InvocationHandler {
+        private final Connection target;
+        private final long acquiredAt;
+        private final TransactionObserver observer;
+        private boolean closed;
+
+        private HoldTimeHandler(Connection target, long acquiredAt, TransactionObserver observer) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+            this.observer = observer;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        observer.onConnectionReleased(System.nanoTime() - acquiredAt);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
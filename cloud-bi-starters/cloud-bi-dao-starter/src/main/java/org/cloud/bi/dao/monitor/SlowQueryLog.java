@@ -0,0 +1,95 @@
+package org.cloud.bi.dao.monitor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 描述：慢 SQL 记录，只保留最近的若干条，超出容量时淘汰最早的记录。可注入后通过 {@link #snapshot()} 对外暴露
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+public class SlowQueryLog {
+
+    private final Deque<SlowQuery> entries;
+    private final int capacity;
+
+    public SlowQueryLog(DaoStarterProperties daoStarterProperties) {
+        this.capacity = Math.max(daoStarterProperties.getStatementMonitor().getSlowLogSize(), 0);
+        this.entries = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * 记录一条慢 SQL
+     *
+     * @param slowQuery 慢 SQL
+     */
+    public void add(SlowQuery slowQuery) {
+        if (capacity == 0) {
+            return;
+        }
+        synchronized (entries) {
+            if (entries.size() >= capacity) {
+                entries.pollLast();
+            }
+            entries.offerFirst(slowQuery);
+        }
+    }
+
+    /**
+     * 获取当前记录的慢 SQL，最近的在前
+     *
+     * @return 慢 SQL 列表
+     */
+    public List<SlowQuery> snapshot() {
+        synchronized (entries) {
+            return new ArrayList<>(entries);
+        }
+    }
+
+    /**
+     * 清空记录
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SlowQuery {
+        /**
+         * MappedStatement 的 id
+         */
+        private final String statementId;
+        /**
+         * 执行的 SQL
+         */
+        private final String sql;
+        /**
+         * 参数值，超出数量上限的参数不记录；未开启 log-parameters 时为空
+         */
+        private final List<String> parameters;
+        /**
+         * 执行时间（单位：毫秒）
+         */
+        private final long durationMillis;
+        /**
+         * 查询返回的行数或写操作影响的行数，执行失败或无法获取时为 -1
+         */
+        private final long rows;
+        /**
+         * 执行结束的时间
+         */
+        private final Instant finishedAt;
+    }
+}
@@ -0,0 +1,25 @@
+package org.cloud.bi.dao.page;
+
+/**
+ * 描述：分页查询统计总数的方式
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public enum CountMode {
+    /**
+     * 每次执行 COUNT 查询，总数精确
+     */
+    EXACT,
+    /**
+     * 优先复用缓存的总数，缓存不存在时执行 COUNT 查询并缓存，写操作后失效
+     */
+    CACHED,
+    /**
+     * 不执行 COUNT 查询，根据当前页估算总数：当前页已满时认为至少还有一页
+     */
+    ESTIMATED,
+    /**
+     * 不执行 COUNT 查询，总数为 -1
+     */
+    NONE
+}
@@ -0,0 +1,48 @@
+package org.cloud.bi.dao.page;
+
+import com.github.pagehelper.Page;
+import lombok.Getter;
+import org.cloud.bi.common.page.TotalTypeAware;
+
+/**
+ * 描述：带有总数来源的分页结果，{@link #getTotalType()} 标识总数是缓存值还是估算值。
+ * 精确统计与不统计总数的分页直接返回 PageHelper 的分页结果，根据是否统计总数即可区分
+ *
+ * @param <E> 数据类型
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Getter
+public class CountPage<E> extends Page<E> implements TotalTypeAware {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 总数的来源
+     */
+    private final CountMode totalType;
+
+    private CountPage(int pageNum, int pageSize, boolean count, CountMode totalType) {
+        super(pageNum, pageSize, count);
+        this.totalType = totalType;
+    }
+
+    /**
+     * 根据查询的分页结果构建
+     *
+     * @param page      分页结果
+     * @param totalType 总数的来源
+     * @param <E>       数据类型
+     * @return 带有总数来源的分页结果
+     */
+    public static <E> CountPage<E> of(Page<E> page, CountMode totalType) {
+        var countPage = new CountPage<E>(page.getPageNum(), page.getPageSize(), page.isCount(), totalType);
+        countPage.addAll(page);
+        countPage.setTotal(page.getTotal());
+        countPage.setOrderBy(page.getOrderBy());
+        return countPage;
+    }
+
+    @Override
+    public String getTotalTypeName() {
+        return totalType.name();
+    }
+}
@@ -0,0 +1,133 @@
+package org.cloud.bi.dao.page;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 描述：游标（Keyset）分页结果，按照上一页最后一条数据的排序键定位下一页，不统计总数，查询耗时与页码深度无关
+ * <p>
+ * 游标对客户端不透明，目前支持整数（Long、Integer、Short、Byte）与字符串类型的排序键，排序键不能为 null。
+ *
+ * @param <E> 数据类型
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Getter
+public class SeekPage<E> extends ArrayList<E> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 整数类型排序键的前缀
+     */
+    private static final char NUMBER_KEY = 'n';
+    /**
+     * 字符串类型排序键的前缀
+     */
+    private static final char STRING_KEY = 's';
+
+    /**
+     * 每页展示的大小
+     */
+    private final int pageSize;
+    /**
+     * 下一页的游标，没有下一页时为 null
+     */
+    private String nextCursor;
+
+    private SeekPage(int pageSize) {
+        super(pageSize);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 是否存在下一页
+     *
+     * @return true 表示存在下一页
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * 根据多查询一条的结果构建分页
+     *
+     * @param list         查询的结果，最多为 pageSize + 1 条
+     * @param pageSize     每页展示的大小
+     * @param keyExtractor 排序键的获取方式
+     * @param <E>          数据类型
+     * @return 分页结果
+     * @throws IllegalArgumentException 每页大小小于 1，或排序键为 null、类型不受支持
+     */
+    public static <E> SeekPage<E> of(List<E> list, int pageSize, Function<E, ?> keyExtractor) {
+        checkPageSize(pageSize);
+        var page = new SeekPage<E>(pageSize);
+        var hasNext = list.size() > pageSize;
+        page.addAll(hasNext ? list.subList(0, pageSize) : list);
+        if (hasNext) {
+            page.nextCursor = encode(keyExtractor.apply(page.get(pageSize - 1)));
+        }
+        return page;
+    }
+
+    /**
+     * 校验每页展示的大小
+     *
+     * @param pageSize 每页展示的大小
+     * @throws IllegalArgumentException 每页大小小于 1
+     */
+    public static void checkPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("每页大小必须大于 0：" + pageSize);
+        }
+    }
+
+    /**
+     * 将排序键编码为游标
+     *
+     * @param key 排序键
+     * @return 游标
+     * @throws IllegalArgumentException 排序键为 null 或类型不受支持
+     */
+    public static String encode(Object key) {
+        char type;
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            type = NUMBER_KEY;
+        } else if (key instanceof String) {
+            type = STRING_KEY;
+        } else {
+            throw new IllegalArgumentException("不支持的排序键：" + (key == null ? "null" : key.getClass().getName())
+                    + "，仅支持整数与字符串类型");
+        }
+        var value = type + key.toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 将游标解码为排序键
+     *
+     * @param cursor 游标，首页为 null
+     * @return 排序键，首页返回 null
+     * @throws IllegalArgumentException 游标不合法
+     */
+    public static Object decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("游标不合法：" + cursor);
+        }
+        switch (value.charAt(0)) {
+            case NUMBER_KEY:
+                return Long.valueOf(value.substring(1));
+            case STRING_KEY:
+                return value.substring(1);
+            default:
+                throw new IllegalArgumentException("游标不合法：" + cursor);
+        }
+    }
+}
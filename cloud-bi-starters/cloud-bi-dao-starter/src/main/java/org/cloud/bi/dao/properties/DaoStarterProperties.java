@@ -0,0 +1,299 @@
+package org.cloud.bi.dao.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 描述：将配置信息对外暴露
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "cloud-bi-dao")
+public class DaoStarterProperties {
+
+    /**
+     * 批量写入配置
+     */
+    @NestedConfigurationProperty
+    private Batch batch = new Batch();
+
+    /**
+     * LOAD DATA 批量导入配置
+     */
+    @NestedConfigurationProperty
+    private Load load = new Load();
+
+    /**
+     * 游标查询配置
+     */
+    @NestedConfigurationProperty
+    private Cursor cursor = new Cursor();
+
+    /**
+     * 分页总数缓存配置
+     */
+    @NestedConfigurationProperty
+    private CountCache countCache = new CountCache();
+
+    /**
+     * 实体缓存配置
+     */
+    @NestedConfigurationProperty
+    private EntityCache entityCache = new EntityCache();
+
+    /**
+     * 合并查询配置
+     */
+    @NestedConfigurationProperty
+    private Loader loader = new Loader();
+
+    /**
+     * 读写分离配置
+     */
+    @NestedConfigurationProperty
+    private Routing routing = new Routing();
+
+    /**
+     * SQL 取消配置
+     */
+    @NestedConfigurationProperty
+    private StatementCancel statementCancel = new StatementCancel();
+
+    /**
+     * 事务与连接监控配置
+     */
+    @NestedConfigurationProperty
+    private Monitor monitor = new Monitor();
+
+    /**
+     * SQL 监控配置
+     */
+    @NestedConfigurationProperty
+    private StatementMonitor statementMonitor = new StatementMonitor();
+
+    @Setter
+    @Getter
+    public static class Batch {
+        /**
+         * 是否开启分批写入，关闭后批量操作将以一条 SQL 整体执行
+         */
+        private boolean enabled = true;
+        /**
+         * 每个批次包含的数据条数，小于 1 时按 1 处理
+         */
+        private int chunkSize = 1000;
+        /**
+         * 每累计多少个批次向数据库刷新一次，小于 1 时按 1 处理
+         */
+        private int flushInterval = 10;
+    }
+
+    @Setter
+    @Getter
+    public static class Load {
+        /**
+         * 每条 LOAD DATA 语句导入的行数
+         */
+        private int chunkSize = 100000;
+        /**
+         * 某个批次失败后是否继续导入后续批次，关闭时在第一个失败的批次处停止
+         */
+        private boolean continueOnError = false;
+    }
+
+    @Setter
+    @Getter
+    public static class Cursor {
+        /**
+         * 游标查询的 fetchSize，仅在 Mapper 未显式指定时生效。
+         * 为空时 MySQL 连接使用 Integer.MIN_VALUE 逐行流式读取，其余数据库使用驱动的默认值；
+         * MySQL 开启 useCursorFetch 时可设置为正数。
+         * 注意：MySQL 逐行流式读取期间连接被独占，游标关闭前该连接无法执行其他语句，也不会归还到连接池
+         */
+        private Integer fetchSize;
+    }
+
+    @Setter
+    @Getter
+    public static class CountCache {
+        /**
+         * 是否开启分页总数缓存，开启后分页查询默认复用缓存的总数
+         */
+        private boolean enabled = false;
+        /**
+         * 缓存的有效时间，默认 1 分钟
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+        /**
+         * 每个 Mapper 最多缓存的查询条件数
+         */
+        private int maximumSize = 1000;
+    }
+
+    @Setter
+    @Getter
+    public static class EntityCache {
+        /**
+         * 是否开启实体缓存，开启后 findById / findListByIdList 优先读取缓存。
+         * 缓存的对象在调用方之间共享，不能修改返回的对象
+         */
+        private boolean enabled = false;
+        /**
+         * 缓存的有效时间，默认 10 分钟
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+        /**
+         * 每个 Mapper 最多缓存的对象数
+         */
+        private long maximumSize = 10000;
+        /**
+         * 是否缓存查询不到的结果
+         */
+        private boolean cacheMisses = true;
+        /**
+         * 对象主键的属性名，写操作根据该属性只使对应主键的缓存失效，获取不到时使整个 Mapper 的缓存失效
+         */
+        private String idProperty = "id";
+    }
+
+    @Setter
+    @Getter
+    public static class Loader {
+        /**
+         * 合并查询的窗口期，窗口期内的主键查询会合并为一次批量查询
+         */
+        private Duration window = Duration.ofMillis(2);
+        /**
+         * 单批次最多合并的主键数，达到上限时立即查询
+         */
+        private int maxBatchSize = 100;
+        /**
+         * 执行合并查询的线程数
+         */
+        private int threads = 4;
+    }
+
+    @Setter
+    @Getter
+    public static class Routing {
+        /**
+         * 是否开启读写分离，开启后只读事务路由到从库
+         */
+        private boolean enabled = false;
+        /**
+         * 从库的负载均衡策略
+         */
+        private Strategy strategy = Strategy.ROUND_ROBIN;
+        /**
+         * 写操作后的粘滞时间，该时间内同一请求（包括传递了请求上下文的异步任务）的只读查询仍然路由到主库；
+         * 不处于请求中时按照当前线程计算
+         */
+        private Duration stickiness = Duration.ofSeconds(2);
+        /**
+         * 从库获取连接失败后的冷却时间，该时间内不再使用该从库
+         */
+        private Duration failureCooldown = Duration.ofSeconds(30);
+        /**
+         * 从库列表
+         */
+        private List<Replica> replicas = new ArrayList<>();
+
+        public enum Strategy {
+            /**
+             * 轮询
+             */
+            ROUND_ROBIN,
+            /**
+             * 活跃连接数最少优先
+             */
+            LEAST_CONNECTIONS
+        }
+
+        @Setter
+        @Getter
+        public static class Replica {
+            /**
+             * 驱动类名，为空时根据 url 推断
+             */
+            private String driverClassName;
+            private String url;
+            private String username;
+            private String password;
+            /**
+             * 连接池名称
+             */
+            private String poolName;
+            /**
+             * 连接池最大连接数
+             */
+            private int maximumPoolSize = 10;
+        }
+    }
+
+    @Setter
+    @Getter
+    public static class StatementCancel {
+        /**
+         * 是否在执行线程被中断时取消正在执行的 SQL
+         */
+        private boolean enabled = true;
+        /**
+         * 检查执行线程是否被中断的间隔
+         */
+        private Duration pollInterval = Duration.ofMillis(100);
+    }
+
+    @Setter
+    @Getter
+    public static class Monitor {
+        /**
+         * 是否开启事务与连接监控，记录事务持续时间、回滚次数与连接等待、占用时间
+         */
+        private boolean enabled = true;
+        /**
+         * 长事务阈值，事务持续时间超过该值时输出开启事务的方法与请求路径
+         */
+        private Duration longTransactionThreshold = Duration.ofSeconds(5);
+        /**
+         * 检查长事务的间隔
+         */
+        private Duration checkInterval = Duration.ofSeconds(1);
+    }
+
+    @Setter
+    @Getter
+    public static class StatementMonitor {
+        /**
+         * 是否开启 SQL 监控，按照 MappedStatement 记录执行时间、返回行数与影响行数
+         */
+        private boolean enabled = true;
+        /**
+         * 记录指标的采样率（0 ~ 1），采样到的 SQL 需要更新直方图，默认只采样 10%；慢 SQL 不受采样率影响
+         */
+        private double sampleRate = 0.1;
+        /**
+         * 慢 SQL 阈值，执行时间超过该值的 SQL 记录到慢 SQL 日志
+         */
+        private Duration slowThreshold = Duration.ofSeconds(1);
+        /**
+         * 慢 SQL 日志最多保留的条数
+         */
+        private int slowLogSize = 100;
+        /**
+         * 是否在慢 SQL 日志与 WARN 日志中记录参数值。参数中可能包含手机号、身份证号等敏感信息，默认不记录
+         */
+        private boolean logParameters = false;
+        /**
+         * 慢 SQL 日志中每条 SQL 最多记录的参数个数，开启 log-parameters 时生效
+         */
+        private int maxParameters = 50;
+    }
+}
@@ -0,0 +1,221 @@
+package org.cloud.bi.dao.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 描述：读写分离数据源，只读事务（get* / query* / find* / select*）路由到从库，其余路由到主库。
+ * <p>
+ * 需要配合 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 使用，
+ * 使获取连接延迟到事务的只读标识设置之后。从库获取连接失败时在冷却时间内不再使用，并回退到主库；
+ * 发生写操作后的粘滞时间内，只读查询同样路由到主库，保证读到自己的写入。
+ * <p>
+ * 处于请求中时，写操作的时间记录在请求属性中，随请求结束而清除，传递了 RequestAttributes 的异步任务（如：AsyncUtil）
+ * 与请求线程共享；不处于请求中时（如：定时任务）记录在当前线程上，超过粘滞时间后的首次查询时清除。
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.context.request.RequestContextHolder", ReadWriteRoutingDataSource.class.getClassLoader());
+
+    /**
+     * 不处于请求中时，当前线程最近一次写操作的时间（System.nanoTime）
+     */
+    private static final ThreadLocal<Long> LAST_WRITE = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final DaoStarterProperties.Routing config;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, DaoStarterProperties.Routing config) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach(replica -> this.replicas.add(new Replica(replica)));
+        this.config = config;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!this.useReplica()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                lastWrite(System.nanoTime());
+            }
+            return primary.getConnection();
+        }
+        for (Replica replica : this.candidates()) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.downUntil = System.nanoTime() + config.getFailureCooldown().toNanos();
+                log.warn("Replica unavailable, fallback to primary for {}: {}", config.getFailureCooldown(), e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+        closeQuietly(primary);
+    }
+
+    /**
+     * 处于只读事务中，且不在写操作后的粘滞时间内时使用从库
+     */
+    private boolean useReplica() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        var lastWrite = lastWrite();
+        if (lastWrite == null) {
+            return true;
+        }
+        if (System.nanoTime() - lastWrite < config.getStickiness().toNanos()) {
+            return false;
+        }
+        lastWrite(null);
+        return true;
+    }
+
+    /**
+     * 获取最近一次写操作的时间，处于请求中时从请求属性中获取
+     */
+    private static Long lastWrite() {
+        return inRequest() ? RequestScope.lastWrite() : LAST_WRITE.get();
+    }
+
+    /**
+     * 记录最近一次写操作的时间，为 null 时清除
+     */
+    private static void lastWrite(Long lastWrite) {
+        if (inRequest()) {
+            RequestScope.lastWrite(lastWrite);
+        } else if (lastWrite == null) {
+            LAST_WRITE.remove();
+        } else {
+            LAST_WRITE.set(lastWrite);
+        }
+    }
+
+    private static boolean inRequest() {
+        return WEB_PRESENT && RequestScope.active();
+    }
+
+    /**
+     * 根据负载均衡策略排列当前可用的从库
+     */
+    private List<Replica> candidates() {
+        var now = System.nanoTime();
+        var size = replicas.size();
+        var start = Math.floorMod(counter.getAndIncrement(), size);
+        var candidates = new ArrayList<Replica>(size);
+        for (var i = 0; i < size; i++) {
+            var replica = replicas.get((start + i) % size);
+            if (now - replica.downUntil >= 0) {
+                candidates.add(replica);
+            }
+        }
+        if (config.getStrategy() == DaoStarterProperties.Routing.Strategy.LEAST_CONNECTIONS) {
+            candidates.sort(Comparator.comparingInt(Replica::activeConnections));
+        }
+        return candidates;
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) dataSource).close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source", e);
+            }
+        }
+    }
+
+    /**
+     * 隔离对 spring-web 的引用，不存在 spring-web 时不加载该类
+     */
+    private static final class RequestScope {
+
+        private static final String LAST_WRITE_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".LAST_WRITE";
+
+        private static boolean active() {
+            return RequestContextHolder.getRequestAttributes() != null;
+        }
+
+        private static Long lastWrite() {
+            var attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return null;
+            }
+            try {
+                return (Long) attributes.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            } catch (IllegalStateException e) {
+                // 请求已结束（如：请求结束后仍在执行的异步任务），不再需要粘滞
+                return null;
+            }
+        }
+
+        private static void lastWrite(Long lastWrite) {
+            var attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return;
+            }
+            try {
+                if (lastWrite == null) {
+                    attributes.removeAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                } else {
+                    attributes.setAttribute(LAST_WRITE_ATTRIBUTE, lastWrite, RequestAttributes.SCOPE_REQUEST);
+                }
+            } catch (IllegalStateException ignored) {
+                // 请求已结束，不再需要粘滞
+            }
+        }
+    }
+
+    private static class Replica {
+        private final DataSource dataSource;
+        /**
+         * 不可用的截止时间（System.nanoTime）
+         */
+        private volatile long downUntil = System.nanoTime();
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * 当前活跃的连接数，无法获取时视为 0
+         */
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource) {
+                var pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
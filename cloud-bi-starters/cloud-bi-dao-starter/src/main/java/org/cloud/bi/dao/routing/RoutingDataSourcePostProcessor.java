@@ -0,0 +1,63 @@
+package org.cloud.bi.dao.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.cloud.bi.dao.monitor.MonitoredDataSourcePostProcessor;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+
+/**
+ * 描述：将名为 dataSource 的数据源替换为读写分离数据源，原数据源作为主库。
+ * 在事务与连接监控的后置处理器之后执行，主库为监控包装后的数据源。
+ * <p>
+ * 注意：替换后 dataSource Bean 的类型为 {@link RoutingDataSourceProxy}，按类型注入或强转 HikariDataSource 的代码需要改为注入
+ * DataSource 并通过 {@code dataSource.unwrap(HikariDataSource.class)} 获取主库连接池
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class RoutingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    /**
+     * 后置处理器的执行顺序，排在事务与连接监控之后
+     */
+    public static final int ORDER = MonitoredDataSourcePostProcessor.ORDER + 10;
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final DaoStarterProperties.Routing config;
+
+    public RoutingDataSourcePostProcessor(DaoStarterProperties.Routing config) {
+        this.config = config;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource)
+                || bean instanceof RoutingDataSourceProxy) {
+            return bean;
+        }
+        var replicas = new ArrayList<DataSource>(config.getReplicas().size());
+        for (var replica : config.getReplicas()) {
+            var dataSource = new HikariDataSource();
+            if (replica.getDriverClassName() != null) {
+                dataSource.setDriverClassName(replica.getDriverClassName());
+            }
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setPoolName(replica.getPoolName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+        return new RoutingDataSourceProxy(new ReadWriteRoutingDataSource((DataSource) bean, replicas, config));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
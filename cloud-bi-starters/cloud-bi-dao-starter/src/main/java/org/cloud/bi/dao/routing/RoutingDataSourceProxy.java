@@ -0,0 +1,25 @@
+package org.cloud.bi.dao.routing;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+
+/**
+ * 描述：延迟获取连接的读写分离数据源代理，关闭时同时关闭主库与从库的连接池
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public RoutingDataSourceProxy(ReadWriteRoutingDataSource routingDataSource) {
+        super(routingDataSource);
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public void close() {
+        routingDataSource.close();
+    }
+}
@@ -1,12 +1,30 @@
 package org.cloud.bi.dao.service;
 
 import com.github.pagehelper.Page;
-import com.github.pagehelper.page.PageMethod;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.cloud.bi.dao.batch.LoadResult;
+import org.cloud.bi.dao.batch.UpsertResult;
 import org.cloud.bi.dao.mapper.BaseMapper;
+import org.cloud.bi.dao.page.CountMode;
+import org.cloud.bi.dao.page.SeekPage;
+import org.cloud.bi.dao.utils.BatchUtil;
+import org.cloud.bi.dao.utils.CacheUtil;
+import org.cloud.bi.dao.utils.LoadDataUtil;
+import org.cloud.bi.dao.utils.LoaderUtil;
+import org.cloud.bi.dao.utils.PageUtil;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * 描述：通用 BaseService 类
@@ -30,17 +48,41 @@ public interface BaseService<ID, T> {
      * @return 返回保存的条数
      */
     default int save(T t) {
-        return this.getMapper().insert(t);
+        return this.afterInsert(this.getMapper().insert(t), Collections.singletonList(t));
     }
 
     /**
-     * 批量保存对象
+     * 批量保存对象，超过单批次大小时分批提交
      *
      * @param param 需要保存的集合
      * @return 实际保存的条数
      */
     default int saveByList(List<T> param) {
-        return this.getMapper().insertByList(param);
+        return this.afterInsert(BatchUtil.execute(this.getMapper(), param, BaseMapper::insertByList), param);
+    }
+
+    /**
+     * 以 LOAD DATA LOCAL INFILE 批量导入，适用于百万行以上的导入。对象的所有非静态字段按照驼峰转下划线映射为列，
+     * 按照批次大小拆分为多条语句，每个批次的结果记录在返回值中
+     *
+     * @param table 表名
+     * @param param 需要导入的集合
+     * @return 导入结果
+     */
+    default LoadResult saveByLoad(String table, List<T> param) {
+        return this.afterLoad(LoadDataUtil.load(table, param));
+    }
+
+    /**
+     * 以 LOAD DATA LOCAL INFILE 批量导入，数据源只在驱动发送数据时才会被读取，适用于无法一次性加载到内存的数据
+     *
+     * @param table   表名
+     * @param columns 列名 -> 取值方式
+     * @param source  数据源
+     * @return 导入结果
+     */
+    default LoadResult saveByLoad(String table, Map<String, Function<? super T, ?>> columns, Iterator<? extends T> source) {
+        return this.afterLoad(LoadDataUtil.load(table, columns, source));
     }
 
     /**
@@ -50,7 +92,31 @@ public interface BaseService<ID, T> {
      * @return 返回实际保存的对象信息
      */
     default int saveByMap(Map<String, Object> param) {
-        return this.getMapper().insertByMap(param);
+        return this.afterInsert(this.getMapper().insertByMap(param), null);
+    }
+
+    /**
+     * 保存对象，主键或唯一键冲突时更新
+     *
+     * @param t 需要保存的对象
+     * @return 提交的条数与影响行数
+     */
+    default UpsertResult upsert(T t) {
+        return UpsertResult.of(1, this.afterWrite(this.getMapper().upsert(t), Collections.singletonList(t)));
+    }
+
+    /**
+     * 批量保存对象，主键或唯一键冲突时更新，超过单批次大小时分批提交，每个批次为一条多行的 upsert 语句
+     *
+     * @param param 需要保存的集合
+     * @return 提交的条数与影响行数
+     */
+    default UpsertResult upsertByList(List<T> param) {
+        if (param == null || param.isEmpty()) {
+            return UpsertResult.EMPTY;
+        }
+        var rows = BatchUtil.execute(this.getMapper(), param, BaseMapper::upsertByList);
+        return UpsertResult.of(param.size(), this.afterWrite(rows, param));
     }
 
     /**
@@ -60,7 +126,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际删除的条数
      */
     default int remove(T t) {
-        return this.getMapper().delete(t);
+        return this.afterWrite(this.getMapper().delete(t), Collections.singletonList(t));
     }
 
     /**
@@ -70,17 +136,21 @@ public interface BaseService<ID, T> {
      * @return 返回实际删除的条数
      */
     default int removeById(ID id) {
-        return this.getMapper().deleteById(id);
+        var rows = this.getMapper().deleteById(id);
+        if (rows > 0) {
+            CacheUtil.evictById(this.getMapper(), Collections.singletonList(id));
+        }
+        return rows;
     }
 
     /**
-     * 批量删除对象
+     * 批量删除对象，超过单批次大小时分批提交
      *
      * @param param 需要批量删除的对象集合
      * @return 返回实际删除的对象条数
      */
     default int removeByList(List<T> param) {
-        return this.getMapper().deleteByList(param);
+        return this.afterWrite(BatchUtil.execute(this.getMapper(), param, BaseMapper::deleteByList), param);
     }
 
     /**
@@ -90,7 +160,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际删除的条数
      */
     default int removeByMap(Map<String, Object> param) {
-        return this.getMapper().deleteByMap(param);
+        return this.afterWrite(this.getMapper().deleteByMap(param));
     }
 
     /**
@@ -100,17 +170,17 @@ public interface BaseService<ID, T> {
      * @return 返回实际更新的对象条数
      */
     default int modify(T t) {
-        return this.getMapper().update(t);
+        return this.afterWrite(this.getMapper().update(t), Collections.singletonList(t));
     }
 
     /**
-     * 根据列表进行批量修改
+     * 根据列表进行批量修改，超过单批次大小时分批提交
      *
      * @param param 需要批量更新的对象集合
      * @return 返回实际更新的对象条数
      */
     default int modifyByList(List<T> param) {
-        return this.getMapper().updateByList(param);
+        return this.afterWrite(BatchUtil.execute(this.getMapper(), param, BaseMapper::updateByList), param);
     }
 
     /**
@@ -120,7 +190,7 @@ public interface BaseService<ID, T> {
      * @return 返回实际更新的对象条数
      */
     default int modifyByMap(Map<String, Object> param) {
-        return this.getMapper().updateByMap(param);
+        return this.afterWrite(this.getMapper().updateByMap(param));
     }
 
     /**
@@ -143,13 +213,35 @@ public interface BaseService<ID, T> {
     }
 
     /**
-     * 根据主键获取对象信息
+     * 根据主键获取对象信息，开启实体缓存时优先读取缓存，缓存的对象在调用方之间共享，不能修改
      *
      * @param id 根据主键进行查询
      * @return 返回满足条件的对象信息
      */
     default Optional<T> findById(ID id) {
-        return this.getMapper().selectById(id);
+        return CacheUtil.findById(this.getMapper(), id);
+    }
+
+    /**
+     * 根据主键集合批量获取对象信息，开启实体缓存时只查询未命中的主键，缓存的对象在调用方之间共享，不能修改
+     *
+     * @param idList   主键集合
+     * @param idGetter 对象主键的获取方式，如：User::getId
+     * @return 按照主键集合顺序排列的对象，不包含查询不到的主键
+     */
+    default List<T> findListByIdList(List<ID> idList, Function<T, ID> idGetter) {
+        return CacheUtil.findListByIdList(this.getMapper(), idList, idGetter);
+    }
+
+    /**
+     * 根据主键异步获取对象信息，短时间内的并发查询会合并为一次批量查询，适用于多个异步任务各自查询单条数据的场景
+     *
+     * @param id       根据主键进行查询
+     * @param idGetter 对象主键的获取方式，如：User::getId
+     * @return 返回满足条件的对象信息
+     */
+    default CompletableFuture<Optional<T>> findByIdAsync(ID id, Function<T, ID> idGetter) {
+        return LoaderUtil.load(this.getMapper(), id, idGetter);
     }
 
     /**
@@ -163,7 +255,7 @@ public interface BaseService<ID, T> {
     }
 
     /**
-     * 查询分页信息
+     * 查询分页信息，总数统计方式见 {@link PageUtil#defaultCountMode()}
      *
      * @param pageNum  分页的页码
      * @param pageSize 每夜显示的条数
@@ -171,34 +263,90 @@ public interface BaseService<ID, T> {
      * @return 分页查询的结果集
      */
     default Page<T> findListByPage(int pageNum, int pageSize, Map<String, Object> param) {
-        PageMethod.startPage(pageNum, pageSize);
-        return this.getMapper().selectListByPage(param);
+        return this.findListByPage(pageNum, pageSize, param, PageUtil.defaultCountMode());
     }
 
     /**
      * 查询分页信息
      *
+     * @param pageNum   分页的页码
+     * @param pageSize  每夜显示的条数
+     * @param param     根据 Map 进行分页查询
+     * @param countMode 总数统计方式
+     * @return 分页查询的结果集
+     */
+    default Page<T> findListByPage(int pageNum, int pageSize, Map<String, Object> param, CountMode countMode) {
+        return PageUtil.page(this.getMapper(), "selectListByPage", param, pageNum, pageSize, countMode,
+                () -> this.getMapper().selectListByPage(param));
+    }
+
+    /**
+     * 查询分页信息，总数统计方式见 {@link PageUtil#defaultCountMode()}
+     *
      * @param pageNum  分页的页码
      * @param pageSize 每夜显示的条数
      * @param param    根据 Map 进行查询
      * @return 返回分页封装的 Map 结果集
      */
     default Page<Map<String, Object>> findMapByPage(int pageNum, int pageSize, Map<String, Object> param) {
-        PageMethod.startPage(pageNum, pageSize);
-        return this.getMapper().selectMapByPage(param);
+        return this.findMapByPage(pageNum, pageSize, param, PageUtil.defaultCountMode());
     }
 
     /**
      * 查询分页信息
      *
+     * @param pageNum   分页的页码
+     * @param pageSize  每夜显示的条数
+     * @param param     根据 Map 进行查询
+     * @param countMode 总数统计方式
+     * @return 返回分页封装的 Map 结果集
+     */
+    default Page<Map<String, Object>> findMapByPage(int pageNum, int pageSize, Map<String, Object> param, CountMode countMode) {
+        return PageUtil.page(this.getMapper(), "selectMapByPage", param, pageNum, pageSize, countMode,
+                () -> this.getMapper().selectMapByPage(param));
+    }
+
+    /**
+     * 查询分页信息，总数统计方式见 {@link PageUtil#defaultCountMode()}
+     *
      * @param pageNum  分页的页码
      * @param pageSize 每夜显示的条数
      * @param t        根据对象行分页查询
      * @return 分页查询的结果集
      */
     default Page<T> findListByPage(int pageNum, int pageSize, T t) {
-        PageMethod.startPage(pageNum, pageSize);
-        return this.getMapper().selectListByPage(t);
+        return this.findListByPage(pageNum, pageSize, t, PageUtil.defaultCountMode());
+    }
+
+    /**
+     * 查询分页信息
+     *
+     * @param pageNum   分页的页码
+     * @param pageSize  每夜显示的条数
+     * @param t         根据对象行分页查询
+     * @param countMode 总数统计方式
+     * @return 分页查询的结果集
+     */
+    default Page<T> findListByPage(int pageNum, int pageSize, T t, CountMode countMode) {
+        return PageUtil.page(this.getMapper(), "selectListByPage(T)", t, pageNum, pageSize, countMode,
+                () -> this.getMapper().selectListByPage(t));
+    }
+
+    /**
+     * 游标（Keyset）分页查询，不统计总数，查询耗时与页码深度无关
+     *
+     * @param cursor       上一页返回的游标，首页为 null
+     * @param pageSize     每页显示的条数
+     * @param param        根据 Map 进行查询
+     * @param keyExtractor 排序键的获取方式，排序键需唯一，如：主键
+     * @return 分页查询的结果集以及下一页的游标
+     * @throws IllegalArgumentException 每页大小小于 1、游标不合法，或排序键为 null、类型不受支持
+     */
+    default SeekPage<T> findListBySeek(String cursor, int pageSize, Map<String, Object> param, Function<T, ?> keyExtractor) {
+        SeekPage.checkPageSize(pageSize);
+        // 多查询一条用于判断是否存在下一页
+        var list = this.getMapper().selectListBySeek(param, SeekPage.decode(cursor), pageSize + 1);
+        return SeekPage.of(list, pageSize, keyExtractor);
     }
 
     /**
@@ -221,4 +369,110 @@ public interface BaseService<ID, T> {
         return this.getMapper().selectMapByMap(param);
     }
 
+    /**
+     * 流式读取所有对象，读取过程中连接始终保持打开。
+     * MySQL 逐行流式读取时，游标关闭（handler 处理完成）前该连接被独占，不能执行其他语句，也不会归还到连接池
+     *
+     * @param handler 逐条处理结果，调用 {@link org.apache.ibatis.session.ResultContext#stop()} 可提前结束
+     */
+    default void streamAll(ResultHandler<T> handler) {
+        handle(this.getMapper().selectCursorAll(), handler);
+    }
+
+    /**
+     * 根据对象流式读取
+     *
+     * @param t       需要查询的对象
+     * @param handler 逐条处理结果，调用 {@link org.apache.ibatis.session.ResultContext#stop()} 可提前结束
+     */
+    default void streamList(T t, ResultHandler<T> handler) {
+        handle(this.getMapper().selectCursor(t), handler);
+    }
+
+    /**
+     * 根据 Map 流式读取
+     *
+     * @param param   根据 Map 进行查询
+     * @param handler 逐条处理结果，调用 {@link org.apache.ibatis.session.ResultContext#stop()} 可提前结束
+     */
+    default void streamListByMap(Map<String, Object> param, ResultHandler<T> handler) {
+        handle(this.getMapper().selectCursorByMap(param), handler);
+    }
+
+    /**
+     * 写操作后使相关缓存失效，无法确定影响了哪些主键时使用
+     *
+     * @param rows 实际影响的条数
+     * @return 实际影响的条数
+     */
+    private int afterWrite(int rows) {
+        if (rows > 0) {
+            CacheUtil.evict(this.getMapper());
+        }
+        return rows;
+    }
+
+    /**
+     * 根据对象修改、删除后使对象主键对应的缓存失效
+     *
+     * @param rows     实际影响的条数
+     * @param entities 修改或删除的对象
+     * @return 实际影响的条数
+     */
+    private int afterWrite(int rows, Collection<T> entities) {
+        if (rows > 0) {
+            CacheUtil.evictUpdated(this.getMapper(), entities);
+        }
+        return rows;
+    }
+
+    /**
+     * 新增后使查询不到的缓存结果失效
+     *
+     * @param rows     实际新增的条数
+     * @param entities 新增的对象，主键未知时为 null
+     * @return 实际新增的条数
+     */
+    private int afterInsert(int rows, Collection<T> entities) {
+        if (rows > 0) {
+            CacheUtil.evictInserted(this.getMapper(), entities);
+        }
+        return rows;
+    }
+
+    /**
+     * 导入后使查询不到的缓存结果失效，主键冲突的行被忽略，不会修改已缓存的对象
+     *
+     * @param result 导入结果
+     * @return 导入结果
+     */
+    private LoadResult afterLoad(LoadResult result) {
+        if (result.getLoadedRows() > 0) {
+            CacheUtil.evictInserted(this.getMapper(), null);
+        }
+        return result;
+    }
+
+    /**
+     * 遍历游标并交由回调处理，结束后关闭游标
+     *
+     * @param cursor  查询游标
+     * @param handler 结果回调
+     * @param <T>     对象类型
+     */
+    private static <T> void handle(Cursor<T> cursor, ResultHandler<T> handler) {
+        try (cursor) {
+            var context = new DefaultResultContext<T>();
+            for (T t : cursor) {
+                context.nextResultObject(t);
+                handler.handleResult(context);
+                if (context.isStopped()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
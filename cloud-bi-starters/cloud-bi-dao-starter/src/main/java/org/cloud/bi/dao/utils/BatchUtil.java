@@ -0,0 +1,120 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.mybatis.spring.MyBatisExceptionTranslator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 描述：批量写入工具类，将大列表拆分为多个批次，通过 {@link ExecutorType#BATCH} 执行器复用预编译语句提交
+ * <p>
+ * 批量会话使用 Spring 托管的事务，处于事务中时与当前事务共用同一个连接。
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchUtil {
+    private static SqlSessionFactory sqlSessionFactory;
+    private static DaoStarterProperties daoStarterProperties;
+
+    /**
+     * 分批执行批量写操作，列表未超过单批次大小时直接调用原方法。批次大小与刷新间隔小于 1 时按 1 处理
+     *
+     * @param mapper 业务 Mapper
+     * @param param  需要写入的对象集合
+     * @param action 单个批次的写操作，如：{@link BaseMapper#insertByList(List)}
+     * @param <ID>   主键类型
+     * @param <T>    对象类型
+     * @return 返回实际影响的条数
+     */
+    @SuppressWarnings("unchecked")
+    public static <ID, T> int execute(BaseMapper<ID, T> mapper, List<T> param,
+                                      BiFunction<BaseMapper<ID, T>, List<T>, Integer> action) {
+        var batch = daoStarterProperties.getBatch();
+        var chunkSize = Math.max(batch.getChunkSize(), 1);
+        var flushInterval = Math.max(batch.getFlushInterval(), 1);
+        if (!batch.isEnabled() || param == null || param.size() <= chunkSize) {
+            return action.apply(mapper, param);
+        }
+
+        var rows = 0;
+        try (var session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            var batchMapper = (BaseMapper<ID, T>) session.getMapper(MapperUtil.getMapperInterface(mapper));
+            // 尚未刷新的各批次的数据条数，与刷新结果中的 updateCounts 按顺序一一对应
+            var pending = new ArrayList<Integer>(flushInterval);
+            for (var from = 0; from < param.size(); from += chunkSize) {
+                var chunk = param.subList(from, Math.min(from + chunkSize, param.size()));
+                action.apply(batchMapper, chunk);
+                pending.add(chunk.size());
+                if (pending.size() == flushInterval) {
+                    rows += sum(session.flushStatements(), pending);
+                    pending.clear();
+                }
+            }
+            rows += sum(session.flushStatements(), pending);
+            session.commit();
+        } catch (PersistenceException e) {
+            var translated = new MyBatisExceptionTranslator(
+                    sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(), true)
+                    .translateExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+        return rows;
+    }
+
+    /**
+     * 汇总批次执行结果中的影响条数
+     *
+     * @param results    批次执行结果
+     * @param chunkSizes 各批次的数据条数，驱动未返回具体条数（SUCCESS_NO_INFO）时以其计
+     * @return 影响的条数
+     */
+    private static int sum(List<BatchResult> results, List<Integer> chunkSizes) {
+        var rows = 0;
+        var index = 0;
+        for (var result : results) {
+            for (var updateCount : result.getUpdateCounts()) {
+                if (updateCount >= 0) {
+                    rows += updateCount;
+                } else if (updateCount == Statement.SUCCESS_NO_INFO && index < chunkSizes.size()) {
+                    rows += chunkSizes.get(index);
+                }
+                index++;
+            }
+        }
+        return rows;
+    }
+
+    //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired
+    private void sqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        setSqlSessionFactory(sqlSessionFactory);
+    }
+
+    @Autowired
+    private void daoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        setDaoStarterProperties(daoStarterProperties);
+    }
+
+    private static void setSqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        BatchUtil.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    private static void setDaoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        BatchUtil.daoStarterProperties = daoStarterProperties;
+    }
+
+}
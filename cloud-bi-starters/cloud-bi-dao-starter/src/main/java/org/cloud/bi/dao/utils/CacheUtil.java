@@ -0,0 +1,219 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.cloud.bi.dao.cache.CountCache;
+import org.cloud.bi.dao.cache.EntityCache;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 描述：缓存工具类，BaseService 的查询通过该类读取实体缓存，写操作通过该类使相关缓存失效。
+ * 能够确定主键的写操作只使对应主键的实体缓存失效，新增只使查询不到的缓存结果失效。
+ * <p>
+ * 缓存的对象不做拷贝，命中时所有调用方拿到的是同一个实例，调用方不能修改返回的对象。
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheUtil {
+    private static CountCache countCache;
+    private static EntityCache entityCache;
+    private static DaoStarterProperties daoStarterProperties;
+
+    /**
+     * 根据主键获取对象，开启实体缓存时优先读取缓存
+     *
+     * @param mapper 业务 Mapper
+     * @param id     主键
+     * @param <ID>   主键类型
+     * @param <T>    对象类型
+     * @return 对象信息
+     */
+    public static <ID, T> Optional<T> findById(BaseMapper<ID, T> mapper, ID id) {
+        if (bypass() || id == null) {
+            return mapper.selectById(id);
+        }
+        return entityCache.get(MapperUtil.getNamespace(mapper), id, () -> mapper.selectById(id));
+    }
+
+    /**
+     * 根据主键集合批量获取对象，开启实体缓存时只查询未命中的主键
+     *
+     * @param mapper   业务 Mapper
+     * @param idList   主键集合
+     * @param idGetter 对象主键的获取方式
+     * @param <ID>     主键类型
+     * @param <T>      对象类型
+     * @return 按照主键集合顺序排列的对象，不包含查询不到的主键
+     */
+    public static <ID, T> List<T> findListByIdList(BaseMapper<ID, T> mapper, List<ID> idList, Function<T, ID> idGetter) {
+        if (bypass() || idList == null || idList.isEmpty()) {
+            return mapper.selectListByIdList(idList);
+        }
+        var found = entityCache.getAll(MapperUtil.getNamespace(mapper), idList, missing -> {
+            var loaded = new HashMap<ID, T>(missing.size() * 2);
+            mapper.selectListByIdList(missing).forEach(t -> loaded.put(idGetter.apply(t), t));
+            return loaded;
+        });
+        var result = new ArrayList<T>(found.size());
+        for (ID id : idList) {
+            var t = found.get(id);
+            if (t != null) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 使该 Mapper 相关的缓存全部失效，用于无法确定影响了哪些主键的写操作（如：根据 Map 修改、删除）
+     *
+     * @param mapper 业务 Mapper
+     */
+    public static void evict(BaseMapper<?, ?> mapper) {
+        evict(mapper, namespace -> entityCache.evict(namespace));
+    }
+
+    /**
+     * 新增后使相关缓存失效。新增不会改变已缓存的对象，只需使对应主键查询不到的缓存结果失效；
+     * 主键未知时（如：根据 Map 新增、LOAD DATA 导入）使所有查询不到的缓存结果失效
+     *
+     * @param mapper   业务 Mapper
+     * @param entities 新增的对象，为 null 时表示主键未知
+     */
+    public static void evictInserted(BaseMapper<?, ?> mapper, Collection<?> entities) {
+        var ids = entityCacheEnabled() ? idsOf(entities) : null;
+        if (ids == null) {
+            evict(mapper, namespace -> entityCache.evictMisses(namespace));
+        } else {
+            evictById(mapper, ids);
+        }
+    }
+
+    /**
+     * 根据对象修改、删除后使相关缓存失效，只影响对象主键对应的缓存，任一对象的主键未知时使该 Mapper 的缓存全部失效
+     *
+     * @param mapper   业务 Mapper
+     * @param entities 修改或删除的对象
+     */
+    public static void evictUpdated(BaseMapper<?, ?> mapper, Collection<?> entities) {
+        var ids = entityCacheEnabled() ? idsOf(entities) : null;
+        if (ids == null) {
+            evict(mapper);
+        } else {
+            evictById(mapper, ids);
+        }
+    }
+
+    /**
+     * 根据主键修改、删除后使相关缓存失效，只影响这些主键对应的缓存
+     *
+     * @param mapper 业务 Mapper
+     * @param ids    主键集合
+     */
+    public static void evictById(BaseMapper<?, ?> mapper, Collection<?> ids) {
+        evict(mapper, namespace -> entityCache.evict(namespace, ids));
+    }
+
+    /**
+     * 写操作后立即失效一次，事务提交后再失效一次，避免提交前并发的查询将旧数据重新写入缓存。
+     * 总数缓存与主键无关，总是整个 Mapper 失效
+     *
+     * @param mapper         业务 Mapper
+     * @param entityEviction 实体缓存的失效方式，未开启实体缓存时不执行
+     */
+    private static void evict(BaseMapper<?, ?> mapper, Consumer<String> entityEviction) {
+        var namespace = MapperUtil.getNamespace(mapper);
+        var evictEntities = entityCacheEnabled();
+        Runnable eviction = () -> {
+            countCache.evict(namespace);
+            if (evictEntities) {
+                entityEviction.accept(namespace);
+            }
+        };
+        eviction.run();
+        TransactionUtil.afterCommit(eviction);
+    }
+
+    /**
+     * 获取对象的主键
+     *
+     * @param entities 对象集合
+     * @return 主键集合，对象集合为 null 或任一对象的主键未知时返回 null
+     */
+    private static List<Object> idsOf(Collection<?> entities) {
+        if (entities == null) {
+            return null;
+        }
+        var idProperty = daoStarterProperties.getEntityCache().getIdProperty();
+        var ids = new ArrayList<>(entities.size());
+        for (var entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            var metaObject = SystemMetaObject.forObject(entity);
+            var id = metaObject.hasGetter(idProperty) ? metaObject.getValue(idProperty) : null;
+            if (id == null) {
+                return null;
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * 是否开启实体缓存
+     */
+    private static boolean entityCacheEnabled() {
+        return daoStarterProperties.getEntityCache().isEnabled();
+    }
+
+    /**
+     * 未开启实体缓存，或处于读写事务中（可能读到未提交的数据）时不使用缓存
+     */
+    private static boolean bypass() {
+        return !entityCacheEnabled() || TransactionUtil.isReadWriteTransaction();
+    }
+
+    //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired
+    private void countCache(CountCache countCache) {
+        setCountCache(countCache);
+    }
+
+    @Autowired
+    private void entityCache(EntityCache entityCache) {
+        setEntityCache(entityCache);
+    }
+
+    @Autowired
+    private void daoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        setDaoStarterProperties(daoStarterProperties);
+    }
+
+    private static void setCountCache(CountCache countCache) {
+        CacheUtil.countCache = countCache;
+    }
+
+    private static void setEntityCache(EntityCache entityCache) {
+        CacheUtil.entityCache = entityCache;
+    }
+
+    private static void setDaoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        CacheUtil.daoStarterProperties = daoStarterProperties;
+    }
+
+}
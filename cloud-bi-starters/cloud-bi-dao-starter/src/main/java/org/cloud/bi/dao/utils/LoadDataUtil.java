@@ -0,0 +1,238 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.cloud.bi.dao.batch.LoadDataInputStream;
+import org.cloud.bi.dao.batch.LoadResult;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 描述：LOAD DATA LOCAL INFILE 批量导入工具类。对象在驱动发送数据时才逐行序列化（见 {@link LoadDataInputStream}），
+ * 通过 MySQL Connector/J 的 setLocalInfileInputStream 直接作为文件内容发送，不生成临时文件；
+ * 数据源按照批次大小拆分为多条 LOAD DATA 语句，逐个批次记录执行结果。
+ * <p>
+ * 使用 Spring 托管的连接，处于事务中时与当前事务共用同一个连接；不处于事务中时每个批次独立提交。
+ * 连接 URL 需要开启 allowLoadLocalInfile=true，主键或唯一键冲突的行会被忽略并产生警告
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LoadDataUtil {
+
+    /**
+     * Connector/J 8.x 与 5.x 中提供 setLocalInfileInputStream 的 Statement 接口
+     */
+    private static final String[] STATEMENT_CLASS_NAMES = {"com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement"};
+    private static final String SET_INPUT_STREAM = "setLocalInfileInputStream";
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_$]+");
+    /**
+     * 单个批次最多统计的警告数
+     */
+    private static final int MAX_WARNINGS = 1000;
+    /**
+     * 对象类型 -> 字段映射的列
+     */
+    private static final Map<Class<?>, Map<String, Function<Object, ?>>> COLUMNS = new ConcurrentHashMap<>();
+
+    private static SqlSessionFactory sqlSessionFactory;
+    private static DaoStarterProperties daoStarterProperties;
+
+    /**
+     * 将列表导入到指定的表，列为对象的所有非静态字段，字段名按照驼峰转下划线映射为列名
+     *
+     * @param table 表名，如：fact 或 bi.fact
+     * @param param 需要导入的对象集合
+     * @param <T>   对象类型
+     * @return 导入结果
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> LoadResult load(String table, List<T> param) {
+        if (param == null || param.isEmpty()) {
+            return new LoadResult();
+        }
+        var columns = (Map<String, Function<? super T, ?>>) (Map<String, ?>) columnsOf(param.get(0).getClass());
+        return load(table, columns, param.iterator());
+    }
+
+    /**
+     * 将数据源导入到指定的表，数据源只在驱动发送数据时才会被读取，可以是文件、游标等无法一次性加载的数据
+     *
+     * @param table   表名，如：fact 或 bi.fact
+     * @param columns 列名 -> 取值方式，按照迭代顺序输出
+     * @param source  数据源
+     * @param <T>     对象类型
+     * @return 导入结果
+     */
+    public static <T> LoadResult load(String table, Map<String, Function<? super T, ?>> columns, Iterator<? extends T> source) {
+        var chunkSize = Math.max(daoStarterProperties.getLoad().getChunkSize(), 1);
+        var continueOnError = daoStarterProperties.getLoad().isContinueOnError();
+        var sql = sql(table, columns.keySet());
+        var getters = new ArrayList<>(columns.values());
+        var dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+        var result = new LoadResult();
+        var connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            for (var index = 0; source.hasNext(); index++) {
+                var stream = new LoadDataInputStream<T>(source, getters, chunkSize);
+                try (var statement = connection.createStatement()) {
+                    setInputStream(statement, stream);
+                    var loadedRows = statement.executeUpdate(sql);
+                    var warning = statement.getWarnings();
+                    result.add(LoadResult.Chunk.success(index, stream.getRows(), loadedRows, count(warning),
+                            warning == null ? null : warning.getMessage()));
+                } catch (SQLException e) {
+                    stream.skipRemaining();
+                    result.add(LoadResult.Chunk.failure(index, stream.getRows(), translate(dataSource, sql, e)));
+                    log.warn("LOAD DATA chunk {} into [{}] failed: {}", index, table, e.getMessage());
+                    if (!continueOnError) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        return result;
+    }
+
+    /**
+     * 构建 LOAD DATA 语句，格式与 {@link LoadDataInputStream} 一致，文件名会被输入流替代
+     */
+    private static String sql(String table, Iterable<String> columns) {
+        var columnList = new ArrayList<String>();
+        columns.forEach(column -> columnList.add(quote(column)));
+        if (columnList.isEmpty()) {
+            throw new IllegalArgumentException("No columns to load into " + table);
+        }
+        var tableName = Arrays.stream(table.split("\\.")).map(LoadDataUtil::quote).collect(Collectors.joining("."));
+        return "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + tableName + " CHARACTER SET utf8mb4"
+                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n'"
+                + " (" + String.join(", ", columnList) + ")";
+    }
+
+    private static String quote(String identifier) {
+        if (!IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("Illegal identifier for LOAD DATA: " + identifier);
+        }
+        return "`" + identifier + "`";
+    }
+
+    /**
+     * 通过驱动的 setLocalInfileInputStream 将输入流作为 LOCAL INFILE 的内容
+     */
+    private static void setInputStream(Statement statement, InputStream stream) throws SQLException {
+        for (var className : STATEMENT_CLASS_NAMES) {
+            if (!ClassUtils.isPresent(className, LoadDataUtil.class.getClassLoader())) {
+                continue;
+            }
+            var type = ClassUtils.resolveClassName(className, LoadDataUtil.class.getClassLoader());
+            if (statement.isWrapperFor(type)) {
+                Method method = ReflectionUtils.findMethod(type, SET_INPUT_STREAM, InputStream.class);
+                if (method != null) {
+                    ReflectionUtils.invokeMethod(method, statement.unwrap(type), stream);
+                    return;
+                }
+            }
+        }
+        throw new IllegalStateException("LOAD DATA LOCAL INFILE requires MySQL Connector/J, statement: "
+                + statement.getClass().getName());
+    }
+
+    private static long count(SQLWarning warning) {
+        var count = 0L;
+        while (warning != null && count < MAX_WARNINGS) {
+            count++;
+            warning = warning.getNextWarning();
+        }
+        return count;
+    }
+
+    private static Exception translate(DataSource dataSource, String sql, SQLException e) {
+        var translated = new SQLErrorCodeSQLExceptionTranslator(dataSource).translate("LOAD DATA", sql, e);
+        return translated != null ? translated : e;
+    }
+
+    /**
+     * 获取对象类型的所有非静态、非 transient 字段，字段名按照驼峰转下划线映射为列名
+     */
+    private static Map<String, Function<Object, ?>> columnsOf(Class<?> type) {
+        return COLUMNS.computeIfAbsent(type, key -> {
+            var columns = new LinkedHashMap<String, Function<Object, ?>>();
+            ReflectionUtils.doWithFields(key, field -> {
+                ReflectionUtils.makeAccessible(field);
+                columns.putIfAbsent(underscore(field.getName()), target -> ReflectionUtils.getField(field, target));
+            }, LoadDataUtil::isColumn);
+            return columns;
+        });
+    }
+
+    private static boolean isColumn(Field field) {
+        var modifiers = field.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic();
+    }
+
+    private static String underscore(String name) {
+        var builder = new StringBuilder(name.length() + 8);
+        for (var i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    builder.append('_');
+                }
+                builder.append(Character.toLowerCase(c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired
+    private void sqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        setSqlSessionFactory(sqlSessionFactory);
+    }
+
+    @Autowired
+    private void daoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        setDaoStarterProperties(daoStarterProperties);
+    }
+
+    private static void setSqlSessionFactory(SqlSessionFactory sqlSessionFactory) {
+        LoadDataUtil.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    private static void setDaoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        LoadDataUtil.daoStarterProperties = daoStarterProperties;
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.cloud.bi.dao.loader.BatchLoader;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 描述：合并查询工具类，BaseService 通过该类将并发的单条查询合并为批量查询
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LoaderUtil {
+    private static BatchLoader batchLoader;
+
+    /**
+     * 根据主键异步加载对象。处于读写事务中时直接查询，保证能读到事务内未提交的数据
+     *
+     * @param mapper   业务 Mapper
+     * @param id       主键
+     * @param idGetter 对象主键的获取方式
+     * @param <ID>     主键类型
+     * @param <T>      对象类型
+     * @return 对象信息，查询不到时为空
+     */
+    public static <ID, T> CompletableFuture<Optional<T>> load(BaseMapper<ID, T> mapper, ID id, Function<T, ID> idGetter) {
+        if (id == null || TransactionUtil.isReadWriteTransaction()) {
+            return CompletableFuture.completedFuture(CacheUtil.findById(mapper, id));
+        }
+        return batchLoader.load(mapper, id, idGetter);
+    }
+
+    //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired
+    private void batchLoader(BatchLoader batchLoader) {
+        setBatchLoader(batchLoader);
+    }
+
+    private static void setBatchLoader(BatchLoader batchLoader) {
+        LoaderUtil.batchLoader = batchLoader;
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.cloud.bi.dao.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 描述：Mapper 相关工具类
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MapperUtil {
+
+    /**
+     * 代理类与业务 Mapper 接口的映射关系，只在首次访问时解析
+     */
+    private static final ClassValue<Class<?>> MAPPER_INTERFACES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            return ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                    .filter(BaseMapper.class::isAssignableFrom)
+                    .filter(mapperInterface -> mapperInterface != BaseMapper.class)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("无法解析 Mapper 接口：" + type.getName()));
+        }
+    };
+
+    /**
+     * 获取 Mapper 代理对象对应的业务 Mapper 接口
+     *
+     * @param mapper Mapper 代理对象
+     * @return 继承自 BaseMapper 的业务接口
+     */
+    public static Class<?> getMapperInterface(BaseMapper<?, ?> mapper) {
+        return MAPPER_INTERFACES.get(mapper.getClass());
+    }
+
+    /**
+     * 获取 Mapper 的命名空间，即 Mapper 接口的全限定名
+     *
+     * @param mapper Mapper 代理对象
+     * @return 命名空间
+     */
+    public static String getNamespace(BaseMapper<?, ?> mapper) {
+        return getMapperInterface(mapper).getName();
+    }
+}
@@ -0,0 +1,198 @@
+package org.cloud.bi.dao.utils;
+
+import com.github.pagehelper.Page;
+import com.github.pagehelper.page.PageMethod;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.cloud.bi.dao.cache.CountCache;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.cloud.bi.dao.page.CountMode;
+import org.cloud.bi.dao.page.CountPage;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 描述：分页工具类，根据 {@link CountMode} 决定分页总数的统计方式
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Component
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageUtil {
+    /**
+     * 类型的 toString 是否可以作为缓存键，即值类型或重写了 Object#toString 的类型
+     */
+    private static final ClassValue<Boolean> STABLE_TO_STRING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (Number.class.isAssignableFrom(type) || Boolean.class == type || Character.class == type
+                    || type.isEnum() || TemporalAccessor.class.isAssignableFrom(type) || Date.class.isAssignableFrom(type)) {
+                return true;
+            }
+            try {
+                return type.getMethod("toString").getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private static CountCache countCache;
+    private static DaoStarterProperties daoStarterProperties;
+
+    /**
+     * 默认的总数统计方式，开启总数缓存时为 {@link CountMode#CACHED}，否则为 {@link CountMode#EXACT}
+     *
+     * @return 总数统计方式
+     */
+    public static CountMode defaultCountMode() {
+        return daoStarterProperties.getCountCache().isEnabled() ? CountMode.CACHED : CountMode.EXACT;
+    }
+
+    /**
+     * 分页查询
+     *
+     * @param mapper    业务 Mapper
+     * @param statement 查询语句，与查询条件共同作为总数缓存的键
+     * @param param     查询条件
+     * @param pageNum   分页的页码
+     * @param pageSize  每页显示的条数
+     * @param countMode 总数统计方式
+     * @param query     分页查询
+     * @param <R>       数据类型
+     * @return 分页结果，总数为缓存值或估算值时为带有总数来源的 {@link CountPage}
+     */
+    public static <R> Page<R> page(BaseMapper<?, ?> mapper, String statement, Object param, int pageNum, int pageSize,
+                                   CountMode countMode, Supplier<Page<R>> query) {
+        // 不统计总数与精确统计时直接返回分页结果，总数来源根据是否统计总数区分
+        if (countMode == CountMode.NONE) {
+            PageMethod.startPage(pageNum, pageSize, false);
+            return query.get();
+        }
+
+        if (countMode == CountMode.ESTIMATED) {
+            PageMethod.startPage(pageNum, pageSize, false);
+            var page = CountPage.of(query.get(), CountMode.ESTIMATED);
+            // 当前页已满时认为至少还有一页
+            page.setTotal(page.getStartRow() + page.size() + (page.size() >= pageSize ? pageSize : 0));
+            return page;
+        }
+
+        // 读写事务中可能统计到未提交的数据，查询条件无法生成稳定的键时（如：未重写 toString 的对象）同样不使用缓存
+        var condition = countMode == CountMode.CACHED && !TransactionUtil.isReadWriteTransaction() ? normalize(param) : null;
+        if (condition != null) {
+            var namespace = MapperUtil.getNamespace(mapper);
+            var key = statement + ":" + condition;
+            var cached = countCache.get(namespace, key);
+            if (cached.isPresent()) {
+                PageMethod.startPage(pageNum, pageSize, false);
+                var page = CountPage.of(query.get(), CountMode.CACHED);
+                page.setTotal(cached.getAsLong());
+                return page;
+            }
+            PageMethod.startPage(pageNum, pageSize);
+            var page = query.get();
+            countCache.put(namespace, key, page.getTotal());
+            return page;
+        }
+
+        PageMethod.startPage(pageNum, pageSize);
+        return query.get();
+    }
+
+    /**
+     * 规范化查询条件，使条件相同但顺序不同的 Map 得到相同的键
+     *
+     * @param param 查询条件
+     * @return 规范化后的查询条件，无法生成稳定的键时返回 null
+     */
+    private static String normalize(Object param) {
+        var builder = new StringBuilder();
+        return append(builder, param) ? builder.toString() : null;
+    }
+
+    /**
+     * 将查询条件追加到键中。Map 按照键的字符串排序（允许 null 以及不可比较的键），集合与数组逐个追加元素，
+     * 其余对象只有在值类型或重写了 toString 时才认为是稳定的，否则（如：默认 toString 输出的 identityHashCode）放弃缓存
+     *
+     * @param builder 键
+     * @param value   查询条件
+     * @return 是否生成了稳定的键
+     */
+    private static boolean append(StringBuilder builder, Object value) {
+        if (value instanceof CharSequence) {
+            builder.append('"').append(value).append('"');
+            return true;
+        }
+        if (value instanceof Map) {
+            var entries = new ArrayList<Map.Entry<?, ?>>(((Map<?, ?>) value).entrySet());
+            entries.sort(Comparator.comparing(entry -> String.valueOf(entry.getKey())));
+            builder.append('{');
+            for (var entry : entries) {
+                builder.append(entry.getKey()).append('=');
+                if (!append(builder, entry.getValue())) {
+                    return false;
+                }
+                builder.append(',');
+            }
+            builder.append('}');
+            return true;
+        }
+        if (value instanceof Iterable) {
+            builder.append('[');
+            for (var element : (Iterable<?>) value) {
+                if (!append(builder, element)) {
+                    return false;
+                }
+                builder.append(',');
+            }
+            builder.append(']');
+            return true;
+        }
+        if (value != null && value.getClass().isArray()) {
+            builder.append('[');
+            for (var i = 0; i < Array.getLength(value); i++) {
+                if (!append(builder, Array.get(value, i))) {
+                    return false;
+                }
+                builder.append(',');
+            }
+            builder.append(']');
+            return true;
+        }
+        if (value == null || STABLE_TO_STRING.get(value.getClass())) {
+            builder.append(value);
+            return true;
+        }
+        return false;
+    }
+
+    //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired
+    private void countCache(CountCache countCache) {
+        setCountCache(countCache);
+    }
+
+    @Autowired
+    private void daoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        setDaoStarterProperties(daoStarterProperties);
+    }
+
+    private static void setCountCache(CountCache countCache) {
+        PageUtil.countCache = countCache;
+    }
+
+    private static void setDaoStarterProperties(DaoStarterProperties daoStarterProperties) {
+        PageUtil.daoStarterProperties = daoStarterProperties;
+    }
+
+}
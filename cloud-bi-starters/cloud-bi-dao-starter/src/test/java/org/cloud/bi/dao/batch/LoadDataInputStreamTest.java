@@ -0,0 +1,154 @@
+package org.cloud.bi.dao.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 描述：LOAD DATA 输入流的转义、格式化以及按批次输出
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class LoadDataInputStreamTest {
+
+    private static final List<Function<? super Object[], ?>> TWO_COLUMNS = List.of(r -> r[0], r -> r[1]);
+
+    @Test
+    void specialCharactersAreEscaped() throws IOException {
+        var stream = stream(List.<Object[]>of(new Object[]{"a\tb\nc\rd\0e\\f", "g"}), TWO_COLUMNS, 10);
+
+        assertEquals("a\\tb\\nc\\rd\\0e\\\\f\tg\n", readAll(stream));
+    }
+
+    @Test
+    void byteArraysAreEscaped() throws IOException {
+        var bytes = new byte[]{'x', '\t', 0, '\\', 'y'};
+        var stream = stream(List.<Object[]>of(new Object[]{bytes, "z"}), TWO_COLUMNS, 10);
+
+        assertEquals("x\\t\\0\\\\y\tz\n", readAll(stream));
+    }
+
+    @Test
+    void nullIsWrittenAsBackslashN() throws IOException {
+        var stream = stream(List.<Object[]>of(new Object[]{null, "x"}, new Object[]{"y", null}), TWO_COLUMNS, 10);
+
+        assertEquals("\\N\tx\ny\t\\N\n", readAll(stream));
+    }
+
+    @Test
+    void valuesAreFormattedForMySql() throws IOException {
+        List<Function<? super Object[], ?>> columns = IntStream.range(0, 8)
+                .<Function<? super Object[], ?>>mapToObj(i -> r -> r[i])
+                .collect(Collectors.toList());
+        var row = new Object[]{
+                LocalDateTime.of(2026, 10, 18, 8, 5, 3, 120_000_000),
+                LocalTime.of(23, 59, 59, 1_000),
+                LocalDate.of(2026, 1, 2),
+                new BigDecimal("1E+3"),
+                new BigDecimal("1E-7"),
+                true,
+                false,
+                Thread.State.NEW
+        };
+        var stream = stream(List.<Object[]>of(row), columns, 10);
+
+        assertEquals("2026-10-18 08:05:03.120000\t23:59:59.000001\t2026-01-02\t1000\t0.0000001\t1\t0\tNEW\n", readAll(stream));
+    }
+
+    @Test
+    void multiByteCharactersAreKeptIntact() throws IOException {
+        var value = "中文\t😀é";
+        var expected = "中文\\t😀é\t-\n";
+
+        assertEquals(expected, readAll(stream(List.<Object[]>of(new Object[]{value, "-"}), TWO_COLUMNS, 10)));
+        // 小缓冲区读取时多字节字符跨越读取边界
+        assertEquals(expected, readInChunks(stream(List.<Object[]>of(new Object[]{value, "-"}), TWO_COLUMNS, 10), 3));
+        // 单字节读取时不会因符号扩展得到负数
+        assertEquals(expected, readByteByByte(stream(List.<Object[]>of(new Object[]{value, "-"}), TWO_COLUMNS, 10)));
+    }
+
+    @Test
+    void eachStreamStopsAtMaxRows() throws IOException {
+        Iterator<Object[]> source = rows(5).iterator();
+
+        var first = new LoadDataInputStream<>(source, TWO_COLUMNS, 2);
+        assertEquals("1\tv1\n2\tv2\n", readAll(first));
+        assertEquals(2, first.getRows());
+        assertEquals(-1, first.read());
+
+        var second = new LoadDataInputStream<>(source, TWO_COLUMNS, 2);
+        assertEquals("3\tv3\n4\tv4\n", readAll(second));
+        assertEquals(2, second.getRows());
+
+        var third = new LoadDataInputStream<>(source, TWO_COLUMNS, 2);
+        assertEquals("5\tv5\n", readAll(third));
+        assertEquals(1, third.getRows());
+        assertFalse(source.hasNext());
+    }
+
+    @Test
+    void skipRemainingMovesToTheBatchBoundary() throws IOException {
+        Iterator<Object[]> source = rows(5).iterator();
+
+        var first = new LoadDataInputStream<>(source, TWO_COLUMNS, 3);
+        // 只读取了第一行的部分数据
+        assertEquals('1', first.read());
+        assertEquals(2, first.skipRemaining());
+        assertEquals(3, first.getRows());
+        assertEquals(-1, first.read());
+        assertEquals(0, first.skipRemaining());
+
+        var second = new LoadDataInputStream<>(source, TWO_COLUMNS, 3);
+        assertEquals("4\tv4\n5\tv5\n", readAll(second));
+        assertEquals(2, second.getRows());
+    }
+
+    private static List<Object[]> rows(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new Object[]{i, "v" + i})
+                .collect(Collectors.toList());
+    }
+
+    private static LoadDataInputStream<Object[]> stream(List<Object[]> rows, List<Function<? super Object[], ?>> columns,
+                                                        long maxRows) {
+        return new LoadDataInputStream<>(rows.iterator(), columns, maxRows);
+    }
+
+    private static String readAll(InputStream stream) throws IOException {
+        return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static String readInChunks(InputStream stream, int chunkSize) throws IOException {
+        var out = new ByteArrayOutputStream();
+        var chunk = new byte[chunkSize];
+        int n;
+        while ((n = stream.read(chunk, 0, chunk.length)) != -1) {
+            out.write(chunk, 0, n);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String readByteByByte(InputStream stream) throws IOException {
+        var out = new ByteArrayOutputStream();
+        int b;
+        while ((b = stream.read()) != -1) {
+            out.write(b);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,98 @@
+package org.cloud.bi.dao.cache;
+
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 描述：实体缓存按主键、空结果以及整个命名空间失效的测试
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class GuavaEntityCacheTest {
+
+    private static final String NAMESPACE = "org.cloud.bi.dao.sample.ItemMapper";
+
+    private final GuavaEntityCache cache = new GuavaEntityCache(new DaoStarterProperties.EntityCache());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void evictByIdKeepsOtherEntries() {
+        get(1L, "a");
+        get(2L, "b");
+
+        cache.evict(NAMESPACE, List.of(1L));
+
+        assertEquals(Optional.of("a2"), get(1L, "a2"));
+        assertEquals(Optional.of("b"), get(2L, "b2"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictMissesKeepsCachedEntities() {
+        get(1L, "a");
+        get(2L, null);
+
+        cache.evictMisses(NAMESPACE);
+
+        assertEquals(Optional.of("a"), get(1L, "a2"));
+        assertEquals(Optional.of("b"), get(2L, "b"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictNamespaceClearsEverything() {
+        get(1L, "a");
+        get(2L, "b");
+
+        cache.evict(NAMESPACE);
+
+        assertEquals(Optional.of("a2"), get(1L, "a2"));
+        assertEquals(Optional.of("b2"), get(2L, "b2"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void loadRacingWithEvictionIsNotCached() {
+        // 加载期间发生写操作，加载到的旧数据不能留在缓存中
+        cache.get(NAMESPACE, 1L, () -> {
+            loads.incrementAndGet();
+            cache.evict(NAMESPACE, List.of(1L));
+            return Optional.of("stale");
+        });
+
+        assertEquals(Optional.of("fresh"), get(1L, "fresh"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getAllLoadsOnlyMissingIds() {
+        get(1L, "a");
+
+        var found = cache.<Long, String>getAll(NAMESPACE, List.of(1L, 2L, 3L), missing -> {
+            loads.incrementAndGet();
+            assertEquals(List.of(2L, 3L), missing);
+            return Map.of(2L, "b");
+        });
+
+        assertEquals(Map.of(1L, "a", 2L, "b"), found);
+        // 首次获取 1 未命中，批量获取时 1 命中、2 和 3 未命中，查询不到的 3 同样被缓存
+        var stats = cache.stats().get(NAMESPACE);
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(3, stats.getSize());
+    }
+
+    private Optional<String> get(Long id, String value) {
+        return cache.get(NAMESPACE, id, () -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(value);
+        });
+    }
+}
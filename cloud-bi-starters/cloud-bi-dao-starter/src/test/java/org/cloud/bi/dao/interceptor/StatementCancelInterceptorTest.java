@@ -0,0 +1,86 @@
+package org.cloud.bi.dao.interceptor;
+
+import org.cloud.bi.dao.DaoTestApplication;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.cloud.bi.dao.sample.ItemMapper;
+import org.cloud.web.utils.AsyncUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：异步任务超时中断执行线程后，正在执行的 SQL 被 Statement#cancel() 终止
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@SpringBootTest(classes = DaoTestApplication.class, properties = "cloud-bi-dao.statement-cancel.poll-interval=20ms")
+@Import(AsyncUtil.class)
+class StatementCancelInterceptorTest {
+
+    /**
+     * H2 的取消错误码：Statement was canceled or the session timed out
+     */
+    private static final int STATEMENT_CANCELED = 57014;
+
+    @Autowired
+    private ItemMapper itemMapper;
+
+    @Test
+    @Timeout(30)
+    void timedOutStatementIsCancelled() throws Exception {
+        var error = new AtomicReference<Throwable>();
+        var finished = new CountDownLatch(1);
+        var future = AsyncUtil.async(() -> {
+            try {
+                return itemMapper.countRange(Long.MAX_VALUE);
+            } catch (RuntimeException e) {
+                error.set(e);
+                throw e;
+            } finally {
+                finished.countDown();
+            }
+        }, Duration.ofMillis(200));
+
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        // 超时只中断执行线程，SQL 在 Statement#cancel() 之后才结束
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        var sqlException = sqlException(error.get());
+        assertNotNull(sqlException, String.valueOf(error.get()));
+        assertEquals(STATEMENT_CANCELED, sqlException.getErrorCode());
+    }
+
+    @Test
+    void disabledInterceptorHasNoWatchdog() {
+        var properties = new DaoStarterProperties();
+        properties.getStatementCancel().setEnabled(false);
+        var interceptor = new StatementCancelInterceptor(properties);
+
+        assertNull(ReflectionTestUtils.getField(interceptor, "watchdog"));
+        interceptor.destroy();
+    }
+
+    private static SQLException sqlException(Throwable error) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                return (SQLException) cause;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,221 @@
+package org.cloud.bi.dao.loader;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.cloud.bi.dao.DaoTestApplication;
+import org.cloud.bi.dao.sample.Item;
+import org.cloud.bi.dao.sample.ItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：合并查询的合并、去重、分批以及异常传递的测试，窗口期为 200 毫秒，单批次最多 5 个主键
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@SpringBootTest(classes = DaoTestApplication.class,
+        properties = {"cloud-bi-dao.loader.window=200ms", "cloud-bi-dao.loader.max-batch-size=5"})
+@Import(BatchLoaderTest.QueryRecorder.class)
+class BatchLoaderTest {
+
+    private static final Function<Item, Long> ID_GETTER = Item::getId;
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private QueryRecorder queryRecorder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM item");
+        itemService.saveByList(items(20));
+        queryRecorder.queries.clear();
+        queryRecorder.hook = null;
+    }
+
+    @Test
+    @Timeout(10)
+    void concurrentCallsAreCoalesced() throws Exception {
+        var callers = Executors.newFixedThreadPool(4);
+        var start = new CountDownLatch(1);
+        var submitted = new ArrayList<CompletableFuture<CompletableFuture<Optional<Item>>>>();
+        try {
+            for (long id = 0; id < 4; id++) {
+                var itemId = id;
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return itemService.findByIdAsync(itemId, ID_GETTER);
+                }, callers));
+            }
+            start.countDown();
+        } finally {
+            callers.shutdown();
+        }
+        var futures = new ArrayList<CompletableFuture<Optional<Item>>>();
+        var callbackThreads = new ArrayList<CompletableFuture<String>>();
+        for (var future : submitted) {
+            futures.add(future.join());
+            callbackThreads.add(future.join().thenApply(item -> Thread.currentThread().getName()));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(Long.valueOf(i), futures.get(i).get(5, TimeUnit.SECONDS).map(Item::getId).orElse(null));
+        }
+        assertEquals(1, queryRecorder.queries.size());
+        assertEquals(List.of(0L, 1L, 2L, 3L), sorted(queryRecorder.queries.get(0)));
+        // 回调不在执行合并查询的线程上运行
+        for (var thread : callbackThreads) {
+            assertFalse(thread.get(5, TimeUnit.SECONDS).startsWith("Dao-Loader-"), thread.get());
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void inFlightIdIsShared() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        queryRecorder.hook = () -> {
+            started.countDown();
+            awaitQuietly(release);
+        };
+
+        var first = itemService.findByIdAsync(1L, ID_GETTER);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // 查询中的主键直接复用同一个结果，不会进入下一个批次
+        var second = itemService.findByIdAsync(1L, ID_GETTER);
+        assertSame(first, second);
+        release.countDown();
+
+        assertEquals(Optional.of(1L), first.get(5, TimeUnit.SECONDS).map(Item::getId));
+        assertEquals(1, queryRecorder.queries.size());
+    }
+
+    @Test
+    @Timeout(10)
+    void batchesAreSplitAtMaxBatchSize() throws Exception {
+        var futures = new ArrayList<CompletableFuture<Optional<Item>>>();
+        for (long id = 0; id < 12; id++) {
+            futures.add(itemService.findByIdAsync(id, ID_GETTER));
+        }
+        for (var future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).isPresent());
+        }
+
+        // 前两个批次达到上限时立即查询，剩余的主键在窗口期结束后查询
+        var sizes = queryRecorder.queries.stream().map(List::size).sorted().collect(Collectors.toList());
+        assertEquals(List.of(2, 5, 5), sizes);
+    }
+
+    @Test
+    @Timeout(10)
+    void errorIsPropagatedToEveryWaiter() {
+        queryRecorder.hook = () -> {
+            throw new IllegalStateException("loader failure");
+        };
+
+        var futures = List.of(
+                itemService.findByIdAsync(1L, ID_GETTER),
+                itemService.findByIdAsync(2L, ID_GETTER),
+                itemService.findByIdAsync(1L, ID_GETTER));
+
+        for (var future : futures) {
+            var error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertTrue(hasCause(error, "loader failure"), error.toString());
+        }
+        assertEquals(1, queryRecorder.queries.size());
+    }
+
+    private static boolean hasCause(Throwable error, String message) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (message.equals(cause.getMessage())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted().collect(Collectors.toList());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Item> items(int size) {
+        var items = new ArrayList<Item>(size);
+        for (long i = 0; i < size; i++) {
+            items.add(new Item(i, "item-" + i, 1L));
+        }
+        return items;
+    }
+
+    /**
+     * 记录每次 selectListByIdList 查询的主键，并在查询前执行测试设置的操作。
+     * PageHelper 会直接调用 6 个参数的 query，两种签名都需要拦截
+     */
+    @Intercepts({
+            @Signature(type = Executor.class, method = "query",
+                    args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+            @Signature(type = Executor.class, method = "query",
+                    args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                            CacheKey.class, BoundSql.class})})
+    static class QueryRecorder implements Interceptor {
+
+        private final List<List<Long>> queries = new CopyOnWriteArrayList<>();
+        private volatile Runnable hook;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object intercept(Invocation invocation) throws Throwable {
+            var statement = (MappedStatement) invocation.getArgs()[0];
+            if (statement.getId().endsWith(".selectListByIdList")) {
+                var parameter = (Map<String, Object>) invocation.getArgs()[1];
+                queries.add(new ArrayList<>((List<Long>) parameter.get("idList")));
+                var current = hook;
+                if (current != null) {
+                    current.run();
+                }
+            }
+            return invocation.proceed();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.cloud.bi.dao.page;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 描述：游标分页的编码、解码以及参数校验
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class SeekPageTest {
+
+    @Test
+    void encodeAndDecodeSupportedKeys() {
+        assertEquals(42L, SeekPage.decode(SeekPage.encode(42)));
+        assertEquals(Long.MAX_VALUE, SeekPage.decode(SeekPage.encode(Long.MAX_VALUE)));
+        assertEquals("a-中文", SeekPage.decode(SeekPage.encode("a-中文")));
+        assertEquals("", SeekPage.decode(SeekPage.encode("")));
+    }
+
+    @Test
+    void unsupportedKeysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SeekPage.encode(null));
+        assertThrows(IllegalArgumentException.class, () -> SeekPage.encode(BigDecimal.ONE));
+        assertThrows(IllegalArgumentException.class, () -> SeekPage.of(List.of(1, 2), 1, e -> null));
+    }
+
+    @Test
+    void invalidPageSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SeekPage.of(List.of(1), 0, Function.identity()));
+        assertThrows(IllegalArgumentException.class, () -> SeekPage.of(List.of(), -1, Function.identity()));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        var page = SeekPage.of(List.of(1L, 2L, 3L), 3, Function.identity());
+
+        assertEquals(3, page.size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void nextCursorPointsToLastElement() {
+        var page = SeekPage.of(List.of(1L, 2L, 3L), 2, Function.identity());
+
+        assertEquals(List.of(1L, 2L), page);
+        assertEquals(2L, SeekPage.decode(page.getNextCursor()));
+    }
+}
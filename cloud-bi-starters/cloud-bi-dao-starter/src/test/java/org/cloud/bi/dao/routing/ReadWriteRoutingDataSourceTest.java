@@ -0,0 +1,222 @@
+package org.cloud.bi.dao.routing;
+
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 描述：读写分离数据源的测试，主库与从库为两个 H2 内存数据库，通过 node 表中的名称区分
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration STICKINESS = Duration.ofMillis(300);
+
+    private final DaoStarterProperties.Routing config = new DaoStarterProperties.Routing();
+    private RoutingDataSourceProxy dataSource;
+    private TransactionTemplate readTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        // 不测试粘滞的用例不需要粘滞，同时清除之前的用例在当前线程上留下的写操作时间
+        config.setStickiness(Duration.ZERO);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        init(List.of(database("replica")));
+
+        assertEquals("replica", read());
+        assertEquals("primary", write());
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimaryDuringCooldown() {
+        var broken = new BrokenDataSource();
+        init(List.of(broken));
+
+        assertEquals("primary", read());
+        assertEquals("primary", read());
+        // 冷却时间内不再尝试不可用的从库
+        assertEquals(1, broken.attempts.get());
+    }
+
+    @Test
+    void readAfterWriteStaysOnPrimaryWithinStickiness() throws InterruptedException {
+        config.setStickiness(STICKINESS);
+        init(List.of(database("replica")));
+
+        write();
+        assertEquals("primary", read());
+
+        Thread.sleep(STICKINESS.toMillis() + 100);
+        assertEquals("replica", read());
+    }
+
+    @Test
+    void stickinessIsSharedWithinRequestAndClearedAfterIt() throws Exception {
+        config.setStickiness(STICKINESS);
+        init(List.of(database("replica")));
+        var request = new MapRequestAttributes();
+        RequestContextHolder.setRequestAttributes(request);
+
+        write();
+        // 传递了请求上下文的异步任务同样读到主库
+        var asyncRead = CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(request);
+            try {
+                return read();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }).get();
+        assertEquals("primary", asyncRead);
+
+        // 请求结束后，同一线程上的下一个请求不受影响
+        request.completed = true;
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        assertEquals("replica", read());
+    }
+
+    @Test
+    void writeOutsideRequestDoesNotLeakIntoRequest() {
+        config.setStickiness(STICKINESS);
+        init(List.of(database("replica")));
+
+        write();
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        assertEquals("replica", read());
+    }
+
+    private void init(List<DataSource> replicas) {
+        dataSource = new RoutingDataSourceProxy(new ReadWriteRoutingDataSource(database("primary"), replicas, config));
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    private String read() {
+        return readTx.execute(status -> node());
+    }
+
+    private String write() {
+        return writeTx.execute(status -> node());
+    }
+
+    private String node() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(32))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * 无法获取连接的从库
+     */
+    private static final class BrokenDataSource extends AbstractDataSource {
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            attempts.incrementAndGet();
+            throw new SQLException("replica is down");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+
+    /**
+     * 基于 Map 的请求属性，completed 为 true 时与请求结束后的 ServletRequestAttributes 一致，访问请求属性时抛出异常
+     */
+    private static final class MapRequestAttributes implements RequestAttributes {
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private volatile boolean completed;
+
+        @Override
+        public Object getAttribute(String name, int scope) {
+            checkActive();
+            return attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            checkActive();
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name, int scope) {
+            checkActive();
+            attributes.remove(name);
+        }
+
+        @Override
+        public String[] getAttributeNames(int scope) {
+            return attributes.keySet().toArray(new String[0]);
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback, int scope) {
+            // 测试中不需要销毁回调
+        }
+
+        @Override
+        public Object resolveReference(String key) {
+            return null;
+        }
+
+        @Override
+        public String getSessionId() {
+            return "test";
+        }
+
+        @Override
+        public Object getSessionMutex() {
+            return this;
+        }
+
+        private void checkActive() {
+            if (completed) {
+                throw new IllegalStateException("request is not active anymore");
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.cloud.bi.dao.sample;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 描述：测试使用的数据
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Item {
+    /**
+     * 主键
+     */
+    private Long id;
+    /**
+     * 名称
+     */
+    private String name;
+    /**
+     * 数值
+     */
+    private Long amount;
+}
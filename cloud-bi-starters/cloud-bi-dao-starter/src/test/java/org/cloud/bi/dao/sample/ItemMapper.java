@@ -0,0 +1,27 @@
+package org.cloud.bi.dao.sample;
+
+import org.apache.ibatis.annotations.Param;
+import org.cloud.bi.dao.mapper.BaseMapper;
+
+/**
+ * 描述：测试使用的 Mapper，只实现测试用到的语句
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface ItemMapper extends BaseMapper<Long, Item> {
+
+    /**
+     * 查询表中的总条数
+     *
+     * @return 总条数
+     */
+    long countAll();
+
+    /**
+     * 逐行扫描 1 ~ size 的序列，size 较大时长时间执行且不响应线程中断，只能通过 Statement#cancel() 终止
+     *
+     * @param size 序列的长度
+     * @return 满足条件的行数
+     */
+    long countRange(@Param("size") long size);
+}
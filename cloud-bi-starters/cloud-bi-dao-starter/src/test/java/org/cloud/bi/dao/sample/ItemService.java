@@ -0,0 +1,11 @@
+package org.cloud.bi.dao.sample;
+
+import org.cloud.bi.dao.service.BaseService;
+
+/**
+ * 描述：测试使用的 Service，包路径满足 TransactionAspect 的切点表达式
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface ItemService extends BaseService<Long, Item> {
+}
@@ -0,0 +1,22 @@
+package org.cloud.bi.dao.sample;
+
+import lombok.RequiredArgsConstructor;
+import org.cloud.bi.dao.mapper.BaseMapper;
+import org.springframework.stereotype.Service;
+
+/**
+ * 描述：测试使用的 Service 实现
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemServiceImpl implements ItemService {
+
+    private final ItemMapper itemMapper;
+
+    @Override
+    public BaseMapper<Long, Item> getMapper() {
+        return itemMapper;
+    }
+}
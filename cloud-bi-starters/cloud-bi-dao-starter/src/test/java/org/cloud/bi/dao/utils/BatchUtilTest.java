@@ -0,0 +1,124 @@
+package org.cloud.bi.dao.utils;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.cloud.bi.dao.DaoTestApplication;
+import org.cloud.bi.dao.properties.DaoStarterProperties;
+import org.cloud.bi.dao.sample.Item;
+import org.cloud.bi.dao.sample.ItemMapper;
+import org.cloud.bi.dao.sample.ItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：BatchUtil 分批、刷新以及影响条数的测试，批次大小为 3，每 2 个批次刷新一次
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@SpringBootTest(classes = DaoTestApplication.class,
+        properties = {"cloud-bi-dao.batch.chunk-size=3", "cloud-bi-dao.batch.flush-interval=2"})
+@Import(BatchUtilTest.FlushRecorder.class)
+class BatchUtilTest {
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemMapper itemMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DaoStarterProperties daoStarterProperties;
+    @Autowired
+    private FlushRecorder flushRecorder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM item");
+        flushRecorder.flushes.clear();
+    }
+
+    @Test
+    void saveByListChunksAndFlushes() {
+        assertEquals(10, itemService.saveByList(items(10, 1)));
+        assertEquals(10, itemMapper.countAll());
+        // 批次为 3、3、3、1 条，每 2 个批次刷新一次，最后一次刷新没有待提交的语句
+        assertEquals(List.of(2, 2), flushRecorder.flushes);
+    }
+
+    @Test
+    void modifyAndRemoveByListReturnAffectedRows() {
+        itemService.saveByList(items(10, 1));
+        flushRecorder.flushes.clear();
+
+        assertEquals(10, itemService.modifyByList(items(10, 2)));
+        assertEquals(20L, jdbcTemplate.queryForObject("SELECT SUM(amount) FROM item", Long.class));
+        assertEquals(10, itemService.removeByList(items(10, 2)));
+        assertEquals(0, itemMapper.countAll());
+    }
+
+    @Test
+    void smallListIsNotBatched() {
+        assertEquals(3, itemService.saveByList(items(3, 1)));
+        assertEquals(3, itemMapper.countAll());
+        assertTrue(flushRecorder.flushes.isEmpty());
+    }
+
+    @Test
+    @Timeout(10)
+    void invalidSettingsAreClamped() {
+        var batch = daoStarterProperties.getBatch();
+        batch.setChunkSize(0);
+        batch.setFlushInterval(0);
+        try {
+            assertEquals(3, itemService.saveByList(items(3, 1)));
+            assertEquals(List.of(1, 1, 1), flushRecorder.flushes);
+        } finally {
+            batch.setChunkSize(3);
+            batch.setFlushInterval(2);
+        }
+    }
+
+    private static List<Item> items(int size, long amount) {
+        var items = new ArrayList<Item>(size);
+        for (long i = 0; i < size; i++) {
+            items.add(new Item(i, "item-" + i, amount));
+        }
+        return items;
+    }
+
+    /**
+     * 记录每次刷新提交的语句数（updateCounts 的个数），忽略没有待提交语句的刷新
+     */
+    @Intercepts(@Signature(type = Executor.class, method = "flushStatements", args = {}))
+    static class FlushRecorder implements Interceptor {
+
+        private final List<Integer> flushes = new CopyOnWriteArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object intercept(Invocation invocation) throws Throwable {
+            var results = (List<BatchResult>) invocation.proceed();
+            var statements = results.stream().mapToInt(result -> result.getUpdateCounts().length).sum();
+            if (statements > 0) {
+                flushes.add(statements);
+            }
+            return results;
+        }
+    }
+}
@@ -1,14 +1,34 @@
 package org.cloud.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.cloud.web.configurations.AsyncExecutorFactory;
+import org.cloud.web.configurations.AsyncExecutorRegistry;
+import org.cloud.web.configurations.AsyncTaskObserver;
+import org.cloud.web.configurations.ContextPropagator;
 import org.cloud.web.configurations.ContextTaskDecorator;
+import org.cloud.web.configurations.ExecutorMetrics;
+import org.cloud.web.configurations.MicrometerAsyncTaskObserver;
+import org.cloud.web.configurations.ResultRtnMessageConverter;
+import org.cloud.web.filter.OnDeadlineHeaderCondition;
+import org.cloud.web.filter.RequestDeadlineFilter;
 import org.cloud.web.properties.WebStarterProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
 
 /**
  * 描述：开启自动配置
@@ -20,22 +40,94 @@ import java.util.concurrent.ThreadPoolExecutor;
 public class WebAutoConfiguration {
 
     /**
-     * 异步任务线程池
+     * 异步任务包装器，在默认的上下文传递器（RequestAttributes、MDC、Locale）之后追加容器中的 ContextPropagator
      *
-     * @param properties 线程池配置属性
+     * @param propagators 自定义的上下文传递器
+     * @return 包装器实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ContextTaskDecorator contextTaskDecorator(ObjectProvider<ContextPropagator<?>> propagators) {
+        return new ContextTaskDecorator(propagators.orderedStream().collect(Collectors.toList()));
+    }
+
+    /**
+     * 异步任务线程池，根据 mode 选择平台线程池、虚拟线程或 ForkJoinPool
+     *
+     * @param properties           线程池配置属性
+     * @param contextTaskDecorator 异步任务包装器
      * @return 线程池实例
      */
     @Bean
-    public Executor asyncExecutor(WebStarterProperties properties) {
-        var poolConfig = properties.getExecutorPool();
-        var executor = new ThreadPoolTaskExecutor();
-        executor.setTaskDecorator(new ContextTaskDecorator());
-        executor.setCorePoolSize(poolConfig.getCorePoolSize());
-        executor.setMaxPoolSize(poolConfig.getMaxPoolSize());
-        executor.setQueueCapacity(poolConfig.getQueueCapacity());
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-        executor.setThreadNamePrefix(poolConfig.getThreadNamePrefix());
-        executor.initialize();
-        return executor;
+    public Executor asyncExecutor(WebStarterProperties properties, ContextTaskDecorator contextTaskDecorator) {
+        return AsyncExecutorFactory.create(properties.getExecutorPool(), contextTaskDecorator);
+    }
+
+    /**
+     * 命名线程池注册表，包括默认线程池以及 executor-pools 中配置的线程池
+     *
+     * @param asyncExecutor        默认线程池
+     * @param properties           线程池配置属性
+     * @param contextTaskDecorator 异步任务包装器
+     * @return 注册表实例
+     */
+    @Bean
+    public AsyncExecutorRegistry asyncExecutorRegistry(Executor asyncExecutor, WebStarterProperties properties,
+                                                       ContextTaskDecorator contextTaskDecorator) {
+        return new AsyncExecutorRegistry(asyncExecutor, properties.getExecutorPool(), properties.getExecutorPools(),
+                contextTaskDecorator);
+    }
+
+    /**
+     * 请求截止时间过滤器，读取调用方的超时时间，请求头名称为空时不注册
+     *
+     * @param properties 配置属性
+     * @return 过滤器注册实例
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @Conditional(OnDeadlineHeaderCondition.class)
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(WebStarterProperties properties) {
+        var registration = new FilterRegistrationBean<>(new RequestDeadlineFilter(properties.getDeadlineHeader().trim(),
+                properties.getDeadlineMaxTimeout()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * 注册 ResultRtn 的消息转换器，位于其他转换器之前，无数据响应直接输出缓存的 JSON 字节
+     *
+     * @param objectMapper 容器中的 ObjectMapper，与默认的 Jackson 转换器保持相同的序列化配置
+     * @return WebMvc 配置
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public WebMvcConfigurer resultRtnMessageConverterConfigurer(ObjectMapper objectMapper) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.add(0, new ResultRtnMessageConverter(objectMapper));
+            }
+        };
+    }
+
+    /**
+     * 存在 Micrometer 时注册各线程池的饱和度指标以及异步任务的排队、执行、拒绝、超时指标
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class ExecutorMetricsConfiguration {
+
+        @Bean
+        public ExecutorMetrics executorMetrics(AsyncExecutorRegistry asyncExecutorRegistry) {
+            return new ExecutorMetrics(asyncExecutorRegistry);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(AsyncTaskObserver.class)
+        public AsyncTaskObserver asyncTaskObserver(ObjectProvider<MeterRegistry> meterRegistry) {
+            var registry = meterRegistry.getIfAvailable();
+            return registry == null ? AsyncTaskObserver.NOOP : new MicrometerAsyncTaskObserver(registry);
+        }
     }
-}
\ No newline at end of file
+}
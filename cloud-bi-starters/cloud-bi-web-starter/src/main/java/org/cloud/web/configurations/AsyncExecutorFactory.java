@@ -0,0 +1,103 @@
+package org.cloud.web.configurations;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.cloud.web.properties.WebStarterProperties;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 描述：根据线程池配置创建异步任务执行器，所有模式均通过 {@link ContextTaskDecorator} 传递上下文
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@Log4j2
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AsyncExecutorFactory {
+
+    /**
+     * 创建异步任务执行器，使用默认的上下文传递器
+     *
+     * @param poolConfig 线程池配置
+     * @return 执行器实例
+     */
+    public static Executor create(WebStarterProperties.ExecutorPool poolConfig) {
+        return create(poolConfig, new ContextTaskDecorator());
+    }
+
+    /**
+     * 创建异步任务执行器
+     *
+     * @param poolConfig    线程池配置
+     * @param taskDecorator 任务包装器
+     * @return 执行器实例
+     */
+    public static Executor create(WebStarterProperties.ExecutorPool poolConfig, TaskDecorator taskDecorator) {
+        switch (poolConfig.getMode()) {
+            case VIRTUAL:
+                var virtual = newVirtualThreadPerTaskExecutor();
+                if (virtual != null) {
+                    return new DecoratedExecutor(virtual, taskDecorator);
+                }
+                log.warn("Virtual threads are not supported by the current runtime, fallback to platform threads");
+                return platform(poolConfig, taskDecorator);
+            case FORK_JOIN:
+                return new DecoratedExecutor(forkJoin(poolConfig), taskDecorator);
+            default:
+                return platform(poolConfig, taskDecorator);
+        }
+    }
+
+    /**
+     * 固定大小的平台线程池，队列满时按照拒绝策略处理
+     */
+    private static Executor platform(WebStarterProperties.ExecutorPool poolConfig, TaskDecorator taskDecorator) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setTaskDecorator(taskDecorator);
+        executor.setCorePoolSize(poolConfig.getCorePoolSize());
+        executor.setMaxPoolSize(poolConfig.getMaxPoolSize());
+        executor.setQueueCapacity(poolConfig.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(rejectionHandler(poolConfig)));
+        executor.setThreadNamePrefix(poolConfig.getThreadNamePrefix());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 平台线程池的拒绝策略
+     */
+    private static RejectedExecutionHandler rejectionHandler(WebStarterProperties.ExecutorPool poolConfig) {
+        if (poolConfig.getRejectionPolicy() == WebStarterProperties.ExecutorPool.RejectionPolicy.ABORT) {
+            return new ThreadPoolExecutor.AbortPolicy();
+        }
+        return new ThreadPoolExecutor.CallerRunsPolicy();
+    }
+
+    /**
+     * 工作窃取线程池，并行度为最大线程数
+     */
+    private static ExecutorService forkJoin(WebStarterProperties.ExecutorPool poolConfig) {
+        var counter = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(poolConfig.getThreadNamePrefix() + counter.incrementAndGet());
+            return thread;
+        };
+        return new ForkJoinPool(poolConfig.getMaxPoolSize(), factory, null, true);
+    }
+
+    /**
+     * 每个任务一个虚拟线程，运行时不支持虚拟线程（JDK 21 以下）时返回 null
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
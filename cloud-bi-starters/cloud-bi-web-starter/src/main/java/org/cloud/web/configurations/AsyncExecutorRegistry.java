@@ -0,0 +1,100 @@
+package org.cloud.web.configurations;
+
+import org.cloud.web.constants.GenericStatusCode;
+import org.cloud.web.exception.BaseException;
+import org.cloud.web.limiter.AdaptiveLimiter;
+import org.cloud.web.properties.WebStarterProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 描述：命名线程池注册表，不同业务使用各自的线程池，避免慢任务占满公共线程池
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class AsyncExecutorRegistry implements DisposableBean {
+
+    /**
+     * 默认线程池（asyncExecutor）的名称
+     */
+    public static final String DEFAULT_POOL = "default";
+
+    private final Map<String, Executor> executors = new LinkedHashMap<>();
+    private final Map<String, AdaptiveLimiter> limiters = new HashMap<>();
+
+    public AsyncExecutorRegistry(Executor asyncExecutor, WebStarterProperties.ExecutorPool defaultPool,
+                                 Map<String, WebStarterProperties.ExecutorPool> pools) {
+        this(asyncExecutor, defaultPool, pools, new ContextTaskDecorator());
+    }
+
+    public AsyncExecutorRegistry(Executor asyncExecutor, WebStarterProperties.ExecutorPool defaultPool,
+                                 Map<String, WebStarterProperties.ExecutorPool> pools, TaskDecorator taskDecorator) {
+        executors.put(DEFAULT_POOL, asyncExecutor);
+        this.registerLimiter(DEFAULT_POOL, defaultPool);
+        pools.forEach((name, poolConfig) -> {
+            // 未单独配置线程名前缀时以线程池名称区分
+            if (new WebStarterProperties.ExecutorPool().getThreadNamePrefix().equals(poolConfig.getThreadNamePrefix())) {
+                poolConfig.setThreadNamePrefix("Async-" + name + "-");
+            }
+            executors.put(name, AsyncExecutorFactory.create(poolConfig, taskDecorator));
+            this.registerLimiter(name, poolConfig);
+        });
+    }
+
+    /**
+     * 获取指定名称的线程池
+     *
+     * @param poolName 线程池名称
+     * @return 线程池实例
+     * @throws BaseException 线程池未配置时抛出
+     */
+    public Executor get(String poolName) {
+        var executor = executors.get(poolName);
+        if (executor == null) {
+            throw new BaseException(GenericStatusCode.CONFIG_VALIDATE_EXCEPTION,
+                    new IllegalArgumentException("Executor pool is not configured: " + poolName));
+        }
+        return executor;
+    }
+
+    /**
+     * 获取指定线程池的自适应并发限制器
+     *
+     * @param poolName 线程池名称
+     * @return 未开启时返回 null
+     */
+    public AdaptiveLimiter getLimiter(String poolName) {
+        return limiters.get(poolName);
+    }
+
+    /**
+     * 获取所有的线程池
+     *
+     * @return 线程池名称与实例的映射
+     */
+    public Map<String, Executor> getAll() {
+        return Collections.unmodifiableMap(executors);
+    }
+
+    private void registerLimiter(String name, WebStarterProperties.ExecutorPool poolConfig) {
+        if (poolConfig.getLimiter().isEnabled()) {
+            limiters.put(name, new AdaptiveLimiter(poolConfig.getLimiter()));
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        // 默认线程池由容器管理
+        for (var entry : executors.entrySet()) {
+            if (!DEFAULT_POOL.equals(entry.getKey()) && entry.getValue() instanceof DisposableBean) {
+                ((DisposableBean) entry.getValue()).destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.cloud.web.configurations;
+
+/**
+ * 描述：异步任务观察者，AsyncUtil 在任务的各个阶段回调，用于采集排队耗时、执行耗时、拒绝、超时等指标。
+ * 存在 Micrometer 时默认注册 {@link MicrometerAsyncTaskObserver}
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface AsyncTaskObserver {
+
+    /**
+     * 不做任何处理的观察者
+     */
+    AsyncTaskObserver NOOP = new AsyncTaskObserver() {
+    };
+
+    /**
+     * 任务开始执行
+     *
+     * @param pool       线程池名称
+     * @param uri        发起任务的请求路径模板，未匹配到路径模板或不在请求线程中时为 UNKNOWN
+     * @param waitNanos  排队耗时
+     * @param callerRuns 是否因线程池饱和由发起任务的线程执行
+     */
+    default void onStart(String pool, String uri, long waitNanos, boolean callerRuns) {
+    }
+
+    /**
+     * 任务执行结束
+     *
+     * @param pool     线程池名称
+     * @param uri      发起任务的请求路径模板，未匹配到路径模板或不在请求线程中时为 UNKNOWN
+     * @param runNanos 执行耗时
+     * @param error    执行异常，成功时为 null
+     */
+    default void onComplete(String pool, String uri, long runNanos, Throwable error) {
+    }
+
+    /**
+     * 任务被拒绝（并发限制或线程池拒绝）
+     *
+     * @param pool   线程池名称
+     * @param uri    发起任务的请求路径模板，未匹配到路径模板或不在请求线程中时为 UNKNOWN
+     * @param reason 拒绝原因：limit、rejected
+     */
+    default void onRejected(String pool, String uri, String reason) {
+    }
+
+    /**
+     * 任务超时
+     *
+     * @param pool 线程池名称
+     * @param uri  发起任务的请求路径模板，未匹配到路径模板或不在请求线程中时为 UNKNOWN
+     */
+    default void onTimeout(String pool, String uri) {
+    }
+}
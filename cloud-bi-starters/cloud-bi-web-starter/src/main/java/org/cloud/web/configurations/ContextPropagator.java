@@ -0,0 +1,33 @@
+package org.cloud.web.configurations;
+
+/**
+ * 描述：异步任务上下文传递器，提交任务时在当前线程捕获上下文，执行任务时在工作线程上恢复，任务结束后还原工作线程原有的上下文。
+ * 注册为 Spring Bean 即可追加到 {@link ContextTaskDecorator}（如：安全上下文、链路追踪上下文）
+ *
+ * @param <S> 上下文快照类型
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public interface ContextPropagator<S> {
+
+    /**
+     * 在提交任务的线程上捕获上下文
+     *
+     * @return 上下文快照，当前线程不存在上下文时返回 null，此时不会在工作线程上恢复
+     */
+    S capture();
+
+    /**
+     * 在执行任务的线程上恢复上下文
+     *
+     * @param snapshot 上下文快照
+     * @return 工作线程原有的上下文，用于任务结束后还原
+     */
+    S restore(S snapshot);
+
+    /**
+     * 任务结束后还原工作线程原有的上下文
+     *
+     * @param previous 工作线程原有的上下文，可能为 null
+     */
+    void reset(S previous);
+}
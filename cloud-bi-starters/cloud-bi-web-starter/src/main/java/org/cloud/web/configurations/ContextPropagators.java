@@ -0,0 +1,109 @@
+package org.cloud.web.configurations;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 描述：内置的上下文传递器：RequestAttributes、MDC、Locale
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContextPropagators {
+
+    /**
+     * 传递 RequestAttributes
+     */
+    public static final ContextPropagator<RequestAttributes> REQUEST_ATTRIBUTES = new ContextPropagator<>() {
+        @Override
+        public RequestAttributes capture() {
+            return RequestContextHolder.getRequestAttributes();
+        }
+
+        @Override
+        public RequestAttributes restore(RequestAttributes snapshot) {
+            var previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(snapshot);
+            return previous;
+        }
+
+        @Override
+        public void reset(RequestAttributes previous) {
+            if (previous == null) {
+                RequestContextHolder.resetRequestAttributes();
+            } else {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        }
+    };
+
+    /**
+     * 传递 MDC（如：traceId）
+     */
+    public static final ContextPropagator<Map<String, String>> MDC_CONTEXT = new ContextPropagator<>() {
+        @Override
+        public Map<String, String> capture() {
+            var context = MDC.getCopyOfContextMap();
+            return context == null || context.isEmpty() ? null : context;
+        }
+
+        @Override
+        public Map<String, String> restore(Map<String, String> snapshot) {
+            var previous = capture();
+            MDC.setContextMap(snapshot);
+            return previous;
+        }
+
+        @Override
+        public void reset(Map<String, String> previous) {
+            if (previous == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(previous);
+            }
+        }
+    };
+
+    /**
+     * 传递 Locale
+     */
+    public static final ContextPropagator<LocaleContext> LOCALE_CONTEXT = new ContextPropagator<>() {
+        @Override
+        public LocaleContext capture() {
+            return LocaleContextHolder.getLocaleContext();
+        }
+
+        @Override
+        public LocaleContext restore(LocaleContext snapshot) {
+            var previous = LocaleContextHolder.getLocaleContext();
+            LocaleContextHolder.setLocaleContext(snapshot);
+            return previous;
+        }
+
+        @Override
+        public void reset(LocaleContext previous) {
+            if (previous == null) {
+                LocaleContextHolder.resetLocaleContext();
+            } else {
+                LocaleContextHolder.setLocaleContext(previous);
+            }
+        }
+    };
+
+    /**
+     * 默认的上下文传递器
+     *
+     * @return 传递器集合
+     */
+    public static List<ContextPropagator<?>> defaults() {
+        return List.of(REQUEST_ATTRIBUTES, MDC_CONTEXT, LOCALE_CONTEXT);
+    }
+}
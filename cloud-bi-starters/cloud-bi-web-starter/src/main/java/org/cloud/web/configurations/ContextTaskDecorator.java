@@ -1,30 +1,91 @@
 package org.cloud.web.configurations;
 
 import org.springframework.core.task.TaskDecorator;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.Collection;
 
 /**
- * 描述：异步任务包装器，用于线程之间传递上下文信息
+ * 描述：异步任务包装器，用于线程之间传递上下文信息。
+ * <p>
+ * 提交任务时由各个 {@link ContextPropagator} 一次性捕获上下文快照，执行时依次恢复，结束后按相反顺序还原工作线程原有的上下文
+ * （由提交线程直接执行时不会清除提交线程自身的上下文）。所有传递器都没有捕获到上下文时不做包装
  *
  * @author Tubetrue01@gmail.com by 2022/7/23
  */
+@SuppressWarnings({"rawtypes", "unchecked"})
 public class ContextTaskDecorator implements TaskDecorator {
 
+    private final ContextPropagator[] propagators;
+
+    /**
+     * 使用默认的上下文传递器：RequestAttributes、MDC、Locale
+     */
+    public ContextTaskDecorator() {
+        this(ContextPropagators.defaults());
+    }
+
+    /**
+     * 使用默认的上下文传递器，并追加自定义的传递器
+     *
+     * @param propagators 自定义的传递器
+     */
+    public ContextTaskDecorator(Collection<? extends ContextPropagator<?>> propagators) {
+        var all = new ArrayList<ContextPropagator<?>>(ContextPropagators.defaults());
+        propagators.stream().filter(propagator -> !all.contains(propagator)).forEach(all::add);
+        this.propagators = all.toArray(new ContextPropagator[0]);
+    }
+
     /**
-     * 绑定 RequestAttributes 到当前线程
+     * 捕获当前线程的上下文
      */
     @Override
     public Runnable decorate(Runnable runnable) {
-        var requestAttributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        return () -> {
+        Object[] snapshots = null;
+        for (int i = 0; i < propagators.length; i++) {
+            var snapshot = propagators[i].capture();
+            if (snapshot != null) {
+                if (snapshots == null) {
+                    snapshots = new Object[propagators.length];
+                }
+                snapshots[i] = snapshot;
+            }
+        }
+        return snapshots == null ? runnable : new ContextRunnable(runnable, propagators, snapshots);
+    }
+
+    /**
+     * 携带上下文快照的任务
+     */
+    private static final class ContextRunnable implements Runnable {
+        private final Runnable delegate;
+        private final ContextPropagator[] propagators;
+        private final Object[] snapshots;
+
+        private ContextRunnable(Runnable delegate, ContextPropagator[] propagators, Object[] snapshots) {
+            this.delegate = delegate;
+            this.propagators = propagators;
+            this.snapshots = snapshots;
+        }
+
+        @Override
+        public void run() {
+            var previous = new Object[snapshots.length];
+            for (int i = 0; i < snapshots.length; i++) {
+                if (snapshots[i] != null) {
+                    previous[i] = propagators[i].restore(snapshots[i]);
+                }
+            }
             try {
-                RequestContextHolder.setRequestAttributes(requestAttributes);
-                runnable.run();
+                delegate.run();
             } finally {
-                RequestContextHolder.resetRequestAttributes();
+                for (int i = snapshots.length - 1; i >= 0; i--) {
+                    if (snapshots[i] != null) {
+                        propagators[i].reset(previous[i]);
+                    }
+                }
             }
-        };
+        }
     }
 
 }
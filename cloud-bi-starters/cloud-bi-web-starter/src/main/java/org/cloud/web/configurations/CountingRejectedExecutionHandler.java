@@ -0,0 +1,35 @@
+package org.cloud.web.configurations;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 描述：记录拒绝次数的拒绝策略包装，用于线程池饱和度指标
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final RejectedExecutionHandler delegate;
+    private final LongAdder rejected = new LongAdder();
+
+    public CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        rejected.increment();
+        delegate.rejectedExecution(r, executor);
+    }
+
+    /**
+     * 累计的拒绝次数（包括由调用方线程执行的任务）
+     *
+     * @return 拒绝次数
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,33 @@
+package org.cloud.web.configurations;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 描述：带有上下文传递的执行器包装，用于非 ThreadPoolTaskExecutor 的执行器（虚拟线程、ForkJoinPool），
+ * 容器关闭时同时关闭被包装的执行器
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class DecoratedExecutor extends ConcurrentTaskExecutor implements DisposableBean {
+
+    private final ExecutorService executorService;
+
+    public DecoratedExecutor(ExecutorService executorService) {
+        this(executorService, new ContextTaskDecorator());
+    }
+
+    public DecoratedExecutor(ExecutorService executorService, TaskDecorator taskDecorator) {
+        super(executorService);
+        this.executorService = executorService;
+        this.setTaskDecorator(taskDecorator);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,86 @@
+package org.cloud.web.configurations;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.cloud.web.limiter.AdaptiveLimiter;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 描述：将各命名线程池的饱和度注册到 Micrometer，以 pool 标签区分
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class ExecutorMetrics implements MeterBinder {
+
+    private final AsyncExecutorRegistry registry;
+
+    public ExecutorMetrics(AsyncExecutorRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        registry.getAll().forEach((name, executor) -> {
+            var tags = Tags.of("pool", name);
+            bind(meterRegistry, tags, unwrap(executor));
+            var limiter = registry.getLimiter(name);
+            if (limiter != null) {
+                Gauge.builder("cloud.bi.web.executor.limit", limiter, AdaptiveLimiter::getLimit)
+                        .tags(tags).description("自适应并发上限").register(meterRegistry);
+                Gauge.builder("cloud.bi.web.executor.inflight", limiter, AdaptiveLimiter::getInflight)
+                        .tags(tags).description("已获取许可的任务数").register(meterRegistry);
+            }
+        });
+    }
+
+    private static void bind(MeterRegistry meterRegistry, Tags tags, Executor executor) {
+        if (executor instanceof ThreadPoolExecutor) {
+            var pool = (ThreadPoolExecutor) executor;
+            Gauge.builder("cloud.bi.web.executor.active", pool, ThreadPoolExecutor::getActiveCount)
+                    .tags(tags).description("正在执行任务的线程数").register(meterRegistry);
+            Gauge.builder("cloud.bi.web.executor.pool.size", pool, ThreadPoolExecutor::getPoolSize)
+                    .tags(tags).description("当前的线程数").register(meterRegistry);
+            Gauge.builder("cloud.bi.web.executor.pool.max", pool, ThreadPoolExecutor::getMaximumPoolSize)
+                    .tags(tags).description("最大线程数").register(meterRegistry);
+            Gauge.builder("cloud.bi.web.executor.queued", pool, p -> p.getQueue().size())
+                    .tags(tags).description("队列中等待的任务数").register(meterRegistry);
+            Gauge.builder("cloud.bi.web.executor.queue.remaining", pool, p -> p.getQueue().remainingCapacity())
+                    .tags(tags).description("队列剩余容量").register(meterRegistry);
+            if (pool.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler) {
+                var handler = (CountingRejectedExecutionHandler) pool.getRejectedExecutionHandler();
+                FunctionCounter.builder("cloud.bi.web.executor.rejected", handler,
+                                CountingRejectedExecutionHandler::getRejectedCount)
+                        .tags(tags).description("队列已满被拒绝的任务数").register(meterRegistry);
+            }
+        } else if (executor instanceof ForkJoinPool) {
+            var pool = (ForkJoinPool) executor;
+            Gauge.builder("cloud.bi.web.executor.active", pool, ForkJoinPool::getActiveThreadCount)
+                    .tags(tags).description("正在执行任务的线程数").register(meterRegistry);
+            Gauge.builder("cloud.bi.web.executor.pool.size", pool, ForkJoinPool::getPoolSize)
+                    .tags(tags).description("当前的线程数").register(meterRegistry);
+            Gauge.builder("cloud.bi.web.executor.queued", pool, p -> p.getQueuedSubmissionCount() + p.getQueuedTaskCount())
+                    .tags(tags).description("队列中等待的任务数").register(meterRegistry);
+        }
+    }
+
+    /**
+     * 获取被包装的原始线程池
+     */
+    private static Executor unwrap(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor) {
+            return ((ThreadPoolTaskExecutor) executor).getThreadPoolExecutor();
+        }
+        if (executor instanceof ConcurrentTaskExecutor) {
+            return ((ConcurrentTaskExecutor) executor).getConcurrentExecutor();
+        }
+        return executor;
+    }
+}
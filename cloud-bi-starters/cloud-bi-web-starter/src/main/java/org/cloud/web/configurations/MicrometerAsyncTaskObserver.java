@@ -0,0 +1,107 @@
+package org.cloud.web.configurations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：基于 Micrometer 的异步任务观察者，按照线程池与请求路径模板（uri）记录，
+ * 未匹配到路径模板以及不在请求线程中发起的任务，uri 均为 {@link org.cloud.web.utils.WebUtil#UNKNOWN_PATTERN}：
+ * <ul>
+ *     <li>cloud.bi.web.async.wait：排队耗时（直方图）</li>
+ *     <li>cloud.bi.web.async.execution：执行耗时（直方图），outcome 区分成功与失败</li>
+ *     <li>cloud.bi.web.async.rejected：被拒绝的任务数，reason 区分并发限制与线程池拒绝</li>
+ *     <li>cloud.bi.web.async.caller.runs：由发起任务的线程执行的任务数</li>
+ *     <li>cloud.bi.web.async.timeouts：超时的任务数</li>
+ * </ul>
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class MicrometerAsyncTaskObserver implements AsyncTaskObserver {
+
+    private final MeterRegistry registry;
+    /**
+     * 线程池 -> 请求路径 -> 对应的指标，避免每个任务都构建 Meter
+     */
+    private final Map<String, Map<String, Meters>> meters = new ConcurrentHashMap<>();
+
+    public MicrometerAsyncTaskObserver(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onStart(String pool, String uri, long waitNanos, boolean callerRuns) {
+        var taskMeters = meters(pool, uri);
+        taskMeters.wait.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (callerRuns) {
+            taskMeters.callerRuns.increment();
+        }
+    }
+
+    @Override
+    public void onComplete(String pool, String uri, long runNanos, Throwable error) {
+        var taskMeters = meters(pool, uri);
+        (error == null ? taskMeters.success : taskMeters.error).record(runNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onRejected(String pool, String uri, String reason) {
+        var taskMeters = meters(pool, uri);
+        taskMeters.rejected.computeIfAbsent(reason, r -> Counter.builder("cloud.bi.web.async.rejected")
+                .description("被拒绝的异步任务数")
+                .tags("pool", pool, "uri", uri, "reason", r)
+                .register(registry)).increment();
+    }
+
+    @Override
+    public void onTimeout(String pool, String uri) {
+        meters(pool, uri).timeouts.increment();
+    }
+
+    private Meters meters(String pool, String uri) {
+        return meters.computeIfAbsent(pool, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(uri, u -> new Meters(registry, pool, u));
+    }
+
+    private static final class Meters {
+        private final Timer wait;
+        private final Timer success;
+        private final Timer error;
+        private final Counter callerRuns;
+        private final Counter timeouts;
+        /**
+         * 拒绝原因 -> 被拒绝的任务数
+         */
+        private final Map<String, Counter> rejected = new ConcurrentHashMap<>();
+
+        private Meters(MeterRegistry registry, String pool, String uri) {
+            this.wait = Timer.builder("cloud.bi.web.async.wait")
+                    .description("异步任务的排队耗时")
+                    .tags("pool", pool, "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.success = execution(registry, pool, uri, "success");
+            this.error = execution(registry, pool, uri, "error");
+            this.callerRuns = Counter.builder("cloud.bi.web.async.caller.runs")
+                    .description("线程池饱和由发起任务的线程执行的任务数")
+                    .tags("pool", pool, "uri", uri)
+                    .register(registry);
+            this.timeouts = Counter.builder("cloud.bi.web.async.timeouts")
+                    .description("超时的异步任务数")
+                    .tags("pool", pool, "uri", uri)
+                    .register(registry);
+        }
+
+        private static Timer execution(MeterRegistry registry, String pool, String uri, String outcome) {
+            return Timer.builder("cloud.bi.web.async.execution")
+                    .description("异步任务的执行耗时")
+                    .tags("pool", pool, "uri", uri, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
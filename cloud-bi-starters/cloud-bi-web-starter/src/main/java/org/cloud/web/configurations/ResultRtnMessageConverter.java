@@ -0,0 +1,86 @@
+package org.cloud.web.configurations;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloud.web.constants.ResultRtn;
+import org.cloud.web.constants.StreamingResultRtn;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 描述：ResultRtn 的消息转换器，无数据响应的共享实例（如：ResultRtn.success()、ResultRtn.fail(statusCode)）
+ * 首次输出时序列化一次并缓存字节，之后直接写出缓存的字节；其他响应仍交由 Jackson 序列化。
+ * {@link StreamingResultRtn} 直接写入响应流，不经过缓冲
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class ResultRtnMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * 流式输出时的刷新间隔（元素个数）
+     */
+    private static final int STREAMING_FLUSH_SIZE = 1000;
+
+    private final Map<ResultRtn<?>, byte[]> cache = new ConcurrentHashMap<>();
+
+    public ResultRtnMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ResultRtn.class.isAssignableFrom(clazz) || StreamingResultRtn.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * 只处理 ResultRtn 与 StreamingResultRtn，其他返回值交由后续的转换器处理
+     */
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return supports(clazz) && canWrite(mediaType);
+    }
+
+    /**
+     * 只用于输出响应，请求体仍由默认的转换器读取
+     */
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        var contentType = outputMessage.getHeaders().getContentType();
+        if (object instanceof StreamingResultRtn) {
+            var generator = getObjectMapper().getFactory().createGenerator(outputMessage.getBody(), getJsonEncoding(contentType));
+            ((StreamingResultRtn<?>) object).writeTo(generator, STREAMING_FLUSH_SIZE);
+            return;
+        }
+        if (object instanceof ResultRtn && ResultRtn.isShared((ResultRtn<?>) object)
+                && getJsonEncoding(contentType) == JsonEncoding.UTF8) {
+            var bytes = cache.get(object);
+            if (bytes == null) {
+                bytes = getObjectMapper().writeValueAsBytes(object);
+                cache.put((ResultRtn<?>) object, bytes);
+            }
+            outputMessage.getBody().write(bytes);
+            outputMessage.getBody().flush();
+            return;
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+}
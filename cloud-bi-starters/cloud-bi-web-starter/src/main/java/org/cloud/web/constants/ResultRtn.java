@@ -1,7 +1,12 @@
 package org.cloud.web.constants;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
+import org.cloud.bi.common.page.TotalTypeAware;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * 通用的返回结果
@@ -13,6 +18,19 @@ import lombok.*;
 @Setter(AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ResultRtn<T> {
+    /**
+     * 无数据响应的共享实例，每个状态码一个，对外不可修改
+     */
+    private static final Map<GenericStatusCode, ResultRtn<?>> SHARED = new EnumMap<>(GenericStatusCode.class);
+
+    static {
+        for (var statusCode : GenericStatusCode.values()) {
+            var result = of(statusCode, (PageInfo) null, null);
+            result.shared = true;
+            SHARED.put(statusCode, result);
+        }
+    }
+
     /**
      * 响应码
      */
@@ -30,6 +48,13 @@ public class ResultRtn<T> {
      */
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Object debugMsg;
+    /**
+     * 是否为共享实例，只在静态初始化时设置，判断时无需查找 SHARED
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean shared;
 
     /**
      * 简单的成功返回响应结果
@@ -107,15 +132,46 @@ public class ResultRtn<T> {
      * @param t          数据对象
      * @param <T>        数据的泛型定义
      */
-    @SuppressWarnings("rawtypes")
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public static <T> ResultRtn<T> of(GenericStatusCode statusCode, T t) {
+        if (t == null) {
+            return (ResultRtn<T>) SHARED.get(statusCode);
+        }
         if (t instanceof com.github.pagehelper.Page) {
             var pageInfo = (com.github.pagehelper.Page) t;
-            return of(statusCode, PageInfo.of(pageInfo.getPageNum(), pageInfo.getPageSize(), pageInfo.getTotal()), t);
+            return of(statusCode, PageInfo.of(pageInfo.getPageNum(), pageInfo.getPageSize(), pageInfo.getTotal(),
+                    totalType(pageInfo)), t);
         }
         return of(statusCode, null, t);
     }
 
+    /**
+     * 成功加游标分页数据的返回结果
+     *
+     * @param t          结果数据
+     * @param pageSize   每页展示的大小
+     * @param nextCursor 下一页的游标，没有下一页时为 null
+     * @param <T>        数据的类型
+     */
+    public static <T> ResultRtn<T> success(T t, int pageSize, String nextCursor) {
+        return of(GenericStatusCode.SUCCESS, t, pageSize, nextCursor);
+    }
+
+    /**
+     * 状态码加游标分页数据的响应结果，用于游标（Keyset）分页，以游标代替页码及总数
+     *
+     * @param statusCode 状态码
+     * @param t          数据对象
+     * @param pageSize   每页展示的大小
+     * @param nextCursor 下一页的游标，没有下一页时为 null
+     * @param <T>        数据的泛型定义
+     */
+    public static <T> ResultRtn<T> of(GenericStatusCode statusCode, T t, int pageSize, String nextCursor) {
+        var result = of(statusCode, null, t);
+        result.getData().setSeekInfo(new SeekInfo(pageSize, nextCursor != null, nextCursor));
+        return result;
+    }
+
     /**
      * 状态码加带分页数据的响应结果
      *
@@ -135,6 +191,30 @@ public class ResultRtn<T> {
         return result;
     }
 
+    /**
+     * 是否为无数据响应的共享实例，共享实例的序列化结果可以缓存
+     *
+     * @param result 响应结果
+     * @return true 表示共享实例
+     */
+    public static boolean isShared(ResultRtn<?> result) {
+        return result.shared;
+    }
+
+    /**
+     * 获取分页结果中总数的来源，未标识（{@link TotalTypeAware}）时根据是否统计总数推断
+     *
+     * @param page 分页结果
+     * @return EXACT、CACHED、ESTIMATED 或 NONE
+     */
+    @SuppressWarnings("rawtypes")
+    private static String totalType(com.github.pagehelper.Page page) {
+        if (page instanceof TotalTypeAware) {
+            return ((TotalTypeAware) page).getTotalTypeName();
+        }
+        return page.isCount() ? "EXACT" : "NONE";
+    }
+
     /**
      * 调试信息处理，将目标方法发生的异常进行回显
      *
@@ -149,7 +229,7 @@ public class ResultRtn<T> {
 
     @Getter
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
-    private static class PageInfo {
+    static class PageInfo {
         /**
          * 页码
          */
@@ -166,14 +246,35 @@ public class ResultRtn<T> {
          * 该条件下总共的数据条数
          */
         private final long total;
+        /**
+         * 总数的来源：EXACT 精确统计、CACHED 缓存值、ESTIMATED 估算值、NONE 未统计
+         */
+        private final String totalType;
 
-        public static PageInfo of(int pageNum, int pageSize, long total) {
+        public static PageInfo of(int pageNum, int pageSize, long total, String totalType) {
             // 根据每页的记录数，计算总的页数
             val pageCount = (total + pageSize - 1) / pageSize;
-            return new PageInfo(pageNum, pageSize, pageCount, total);
+            return new PageInfo(pageNum, pageSize, pageCount, total, totalType);
         }
     }
 
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class SeekInfo {
+        /**
+         * 每页展示的大小
+         */
+        private final int pageSize;
+        /**
+         * 是否存在下一页
+         */
+        private final boolean hasNext;
+        /**
+         * 下一页的游标
+         */
+        private final String nextCursor;
+    }
+
     /**
      * 具体的数据对象，包括：分页对象、业务数据对象
      *
@@ -188,6 +289,11 @@ public class ResultRtn<T> {
          */
         @JsonInclude(JsonInclude.Include.NON_NULL)
         private PageInfo pageInfo;
+        /**
+         * 游标分页数据对象
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private SeekInfo seekInfo;
         /**
          * 业务数据对象
          */
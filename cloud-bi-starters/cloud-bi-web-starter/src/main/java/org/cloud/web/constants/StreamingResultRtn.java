@@ -0,0 +1,178 @@
+package org.cloud.web.constants;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 描述：流式输出的返回结果，用于大结果集。与 {@link ResultRtn} 的 JSON 结构一致，先输出 code、msg、data.pageInfo，
+ * 再将 dataInfo 中的元素逐个写入响应流（分块传输），首字节时间与内存占用不随结果集大小增长。
+ * <p>
+ * 例如：结合 dao 模块的游标查询，在事务内逐条输出
+ * <pre>
+ * return StreamingResultRtn.success(sink -&gt; factService.streamAll(context -&gt; sink.accept(context.getResultObject())));
+ * </pre>
+ * 注意：响应头在输出第一个字节时已经发送，元素输出过程中发生异常时无法再修改状态码，响应会被中断，客户端收到不完整的 JSON
+ *
+ * @param <T> 元素类型
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public final class StreamingResultRtn<T> {
+
+    /**
+     * 输出元素的回调，在写出响应时执行（如：在事务内打开数据库游标并逐条输出）
+     *
+     * @param <T> 元素类型
+     */
+    @FunctionalInterface
+    public interface Producer<T> {
+        /**
+         * 依次将元素交给 sink 输出
+         *
+         * @param sink 元素的输出
+         * @throws Exception 输出元素过程中的异常
+         */
+        void produce(Consumer<? super T> sink) throws Exception;
+    }
+
+    private final GenericStatusCode statusCode;
+    private final ResultRtn.PageInfo pageInfo;
+    private final Producer<T> producer;
+
+    private StreamingResultRtn(GenericStatusCode statusCode, ResultRtn.PageInfo pageInfo, Producer<T> producer) {
+        this.statusCode = statusCode;
+        this.pageInfo = pageInfo;
+        this.producer = producer;
+    }
+
+    /**
+     * 流式输出迭代器中的元素
+     *
+     * @param iterator 迭代器
+     * @param <T>      元素类型
+     */
+    public static <T> StreamingResultRtn<T> success(Iterator<? extends T> iterator) {
+        return of(GenericStatusCode.SUCCESS, sink -> iterator.forEachRemaining(sink));
+    }
+
+    /**
+     * 流式输出集合中的元素
+     *
+     * @param iterable 集合
+     * @param <T>      元素类型
+     */
+    public static <T> StreamingResultRtn<T> success(Iterable<? extends T> iterable) {
+        return of(GenericStatusCode.SUCCESS, sink -> iterable.forEach(sink));
+    }
+
+    /**
+     * 流式输出 Stream 中的元素，输出结束后关闭 Stream（如：释放数据库游标）
+     *
+     * @param stream 元素流
+     * @param <T>    元素类型
+     */
+    public static <T> StreamingResultRtn<T> success(Stream<? extends T> stream) {
+        return of(GenericStatusCode.SUCCESS, sink -> {
+            try (stream) {
+                stream.forEachOrdered(sink);
+            }
+        });
+    }
+
+    /**
+     * 流式输出回调产生的元素
+     *
+     * @param producer 输出元素的回调
+     * @param <T>      元素类型
+     */
+    public static <T> StreamingResultRtn<T> success(Producer<T> producer) {
+        return of(GenericStatusCode.SUCCESS, producer);
+    }
+
+    /**
+     * 状态码加流式数据的返回结果
+     *
+     * @param statusCode 状态码
+     * @param producer   输出元素的回调
+     * @param <T>        元素类型
+     */
+    public static <T> StreamingResultRtn<T> of(GenericStatusCode statusCode, Producer<T> producer) {
+        return new StreamingResultRtn<>(statusCode, null, producer);
+    }
+
+    /**
+     * 附带分页信息，分页信息在元素之前输出
+     *
+     * @param pageNum  页码
+     * @param pageSize 每页展示的大小
+     * @param total    该条件下总共的数据条数
+     * @return 新的返回结果
+     */
+    public StreamingResultRtn<T> page(int pageNum, int pageSize, long total) {
+        return new StreamingResultRtn<>(statusCode, ResultRtn.PageInfo.of(pageNum, pageSize, total, "EXACT"), producer);
+    }
+
+    /**
+     * 输出结果，每输出 flushSize 个元素刷新一次输出流
+     *
+     * @param generator 由 ObjectMapper 创建的 JsonGenerator
+     * @param flushSize 刷新间隔（元素个数）
+     * @throws IOException 输出异常，回调中的其他异常同样包装为 IOException
+     */
+    public void writeTo(JsonGenerator generator, int flushSize) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("code", statusCode.getCodeValue());
+        generator.writeStringField("msg", statusCode.getMsg());
+        generator.writeObjectFieldStart("data");
+        if (pageInfo != null) {
+            generator.writeObjectField("pageInfo", pageInfo);
+        }
+        generator.writeArrayFieldStart("dataInfo");
+        // 尽早发送响应头与外层结构
+        generator.flush();
+        var sink = new Sink<T>(generator, flushSize);
+        try {
+            producer.produce(sink);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * 元素输出
+     */
+    private static final class Sink<T> implements Consumer<T> {
+        private final JsonGenerator generator;
+        private final int flushSize;
+        private int count;
+
+        private Sink(JsonGenerator generator, int flushSize) {
+            this.generator = generator;
+            this.flushSize = flushSize;
+        }
+
+        @Override
+        public void accept(T element) {
+            try {
+                generator.writeObject(element);
+                if (++count % flushSize == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -29,4 +29,37 @@ public class BaseException extends RuntimeException {
         super(throwable);
         this.genericStatusCode = genericStatusCode;
     }
+
+    /**
+     * 可选择不填充堆栈的构造方法，供预期内的业务异常子类使用
+     *
+     * @param genericStatusCode  状态码
+     * @param message            异常信息
+     * @param writableStackTrace false 表示不填充堆栈
+     */
+    protected BaseException(GenericStatusCode genericStatusCode, String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+        this.genericStatusCode = genericStatusCode;
+    }
+
+    /**
+     * 不填充堆栈的轻量级业务异常，适用于参数校验、业务规则等预期内的错误，创建成本远低于普通异常
+     *
+     * @param genericStatusCode 状态码
+     * @return 异常实例
+     */
+    public static BaseException lightweight(GenericStatusCode genericStatusCode) {
+        return new BaseException(genericStatusCode, genericStatusCode.getMsg(), false);
+    }
+
+    /**
+     * 含有动态描述、不填充堆栈的轻量级业务异常
+     *
+     * @param genericStatusCode 状态码
+     * @param details           描述中的动态值
+     * @return 异常实例
+     */
+    public static BaseException lightweight(GenericStatusCode genericStatusCode, Object... details) {
+        return new BaseException(genericStatusCode, genericStatusCode.getDescription(details), false);
+    }
 }
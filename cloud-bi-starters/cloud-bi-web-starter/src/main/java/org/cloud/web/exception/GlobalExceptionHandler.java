@@ -3,7 +3,9 @@ package org.cloud.web.exception;
 import lombok.extern.log4j.Log4j2;
 import org.cloud.web.constants.GenericStatusCode;
 import org.cloud.web.constants.ResultRtn;
+import org.cloud.web.properties.WebStarterProperties;
 import org.cloud.web.utils.WebUtil;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
@@ -27,6 +29,16 @@ import java.util.*;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 业务异常、参数异常的日志限流，未开启时为 null
+     */
+    private final LogRateLimiter<GenericStatusCode> logRateLimiter;
+
+    public GlobalExceptionHandler(ObjectProvider<WebStarterProperties> properties) {
+        var config = properties.getIfAvailable(WebStarterProperties::new).getExceptionLog();
+        this.logRateLimiter = config.isEnabled() ? new LogRateLimiter<>(config.getInterval(), config.getPermits()) : null;
+    }
+
     /**
      * 业务异常通用处理
      *
@@ -37,8 +49,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = BaseException.class)
     public ResultRtn<Void> baseExceptionHandler(BaseException exception) {
         var statusCode = exception.getGenericStatusCode();
-        log.warn("业务发生异常，请求地址 [{}]，错误码 [{}]，错误码信息 [{}]",
-                obtainRequestUrl(), statusCode.getCodeValue(), exception.getMessage(), exception.getCause());
+        var suppressed = tryAcquireLog(statusCode);
+        if (suppressed != LogRateLimiter.DENIED) {
+            log.warn("业务发生异常，请求地址 [{}]，错误码 [{}]，错误码信息 [{}]，期间忽略的相同错误码日志 [{}] 条",
+                    obtainRequestUrl(), statusCode.getCodeValue(), exception.getMessage(), suppressed, exception.getCause());
+        }
         return ResultRtn.fail(statusCode, exception);
     }
 
@@ -60,7 +75,11 @@ public class GlobalExceptionHandler {
             var bindException = (BindException) exception;
             obtainErrorResult(bindException.getBindingResult(), errorResult);
         }
-        log.warn("请求地址:[{}],参数不合法,异常信息: {}", obtainRequestUrl(), errorResult);
+        var suppressed = tryAcquireLog(GenericStatusCode.PARAM_VALIDATE_EXCEPTION);
+        if (suppressed != LogRateLimiter.DENIED) {
+            log.warn("请求地址:[{}],参数不合法,异常信息: {},期间忽略的相同错误码日志 [{}] 条", obtainRequestUrl(), errorResult,
+                    suppressed);
+        }
         return ResultRtn.fail(GenericStatusCode.PARAM_VALIDATE_EXCEPTION, exception);
     }
 
@@ -74,8 +93,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = ConstraintViolationException.class)
     public ResultRtn<Void>
     constraintViolationException(ConstraintViolationException exception) {
-        log.warn("请求地址:[{}],参数校验异常,异常类型:[{}],异常信息: ", exception.getClass().getSimpleName(),
-                exception);
+        var suppressed = tryAcquireLog(GenericStatusCode.PARAM_VALIDATE_EXCEPTION);
+        if (suppressed != LogRateLimiter.DENIED) {
+            log.warn("请求地址:[{}],参数校验异常,异常类型:[{}],期间忽略的相同错误码日志 [{}] 条,异常信息: ", obtainRequestUrl(),
+                    exception.getClass().getSimpleName(), suppressed, exception);
+        }
         return ResultRtn.fail(GenericStatusCode.PARAM_VALIDATE_EXCEPTION, exception);
     }
 
@@ -151,6 +173,16 @@ public class GlobalExceptionHandler {
                 });
     }
 
+    /**
+     * 日志限流
+     *
+     * @param statusCode 错误码
+     * @return {@link LogRateLimiter#DENIED} 表示不输出日志；否则为期间被忽略的日志条数
+     */
+    private long tryAcquireLog(GenericStatusCode statusCode) {
+        return logRateLimiter == null ? 0 : logRateLimiter.tryAcquire(statusCode);
+    }
+
     /**
      * 获取当前请求的路径
      *
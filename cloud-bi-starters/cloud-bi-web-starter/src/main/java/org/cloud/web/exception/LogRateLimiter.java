@@ -0,0 +1,59 @@
+package org.cloud.web.exception;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 描述：按照键（如：错误码）对日志限流，每个时间窗口内最多输出 permits 条，超出的日志只计数
+ *
+ * @param <K> 限流的键类型
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class LogRateLimiter<K> {
+
+    /**
+     * 拒绝输出
+     */
+    public static final long DENIED = -1;
+
+    private final Map<K, Window> windows = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final int permits;
+
+    public LogRateLimiter(Duration interval, int permits) {
+        this.intervalNanos = interval.toNanos();
+        this.permits = permits;
+    }
+
+    /**
+     * 尝试输出一条日志
+     *
+     * @param key 限流的键
+     * @return {@link #DENIED} 表示不输出；否则表示允许输出，返回值为上次输出之后被忽略的条数
+     */
+    public long tryAcquire(K key) {
+        return windows.computeIfAbsent(key, k -> new Window()).tryAcquire(System.nanoTime());
+    }
+
+    private final class Window {
+        private long start = System.nanoTime();
+        private int used;
+        private long suppressed;
+
+        private synchronized long tryAcquire(long now) {
+            if (now - start >= intervalNanos) {
+                start = now;
+                used = 0;
+            }
+            if (used >= permits) {
+                suppressed++;
+                return DENIED;
+            }
+            used++;
+            var result = suppressed;
+            suppressed = 0;
+            return result;
+        }
+    }
+}
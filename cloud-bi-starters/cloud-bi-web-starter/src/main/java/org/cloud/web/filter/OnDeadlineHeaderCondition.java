@@ -0,0 +1,24 @@
+package org.cloud.web.filter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.StringUtils;
+
+/**
+ * 描述：配置了非空的调用方超时时间请求头（cloud-bi-web.deadline-header，默认 X-Request-Timeout）时才注册 {@link RequestDeadlineFilter}
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class OnDeadlineHeaderCondition extends SpringBootCondition {
+
+    private static final String PROPERTY = "cloud-bi-web.deadline-header";
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        var header = context.getEnvironment().getProperty(PROPERTY, "X-Request-Timeout");
+        return StringUtils.hasText(header) ? ConditionOutcome.match(PROPERTY + " is " + header)
+                : ConditionOutcome.noMatch(PROPERTY + " is blank");
+    }
+}
@@ -0,0 +1,52 @@
+package org.cloud.web.filter;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 描述：请求截止时间过滤器，读取请求头中调用方的超时时间（单位：毫秒），换算为截止时间保存到请求属性中，
+ * 该请求内通过 AsyncUtil 发起的异步任务的超时时间不会超过该截止时间。
+ * 小于等于 0 或无法解析的超时时间被忽略，超过上限时按照上限处理，避免截止时间溢出
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    /**
+     * 请求截止时间（System.nanoTime）的属性名
+     */
+    public static final String DEADLINE_ATTRIBUTE = RequestDeadlineFilter.class.getName() + ".DEADLINE";
+
+    private final String headerName;
+    private final long maxTimeoutMillis;
+
+    public RequestDeadlineFilter(String headerName, Duration maxTimeout) {
+        this.headerName = headerName;
+        this.maxTimeoutMillis = maxTimeout.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var header = request.getHeader(headerName);
+        if (header != null) {
+            try {
+                var timeout = Long.parseLong(header.trim());
+                if (timeout > 0) {
+                    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(timeout, maxTimeoutMillis));
+                    request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+                }
+            } catch (NumberFormatException ignored) {
+                // 非法的超时时间不做处理
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
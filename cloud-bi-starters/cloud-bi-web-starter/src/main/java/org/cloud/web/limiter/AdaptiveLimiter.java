@@ -0,0 +1,96 @@
+package org.cloud.web.limiter;
+
+import org.cloud.web.properties.WebStarterProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 描述：基于延迟梯度的自适应并发限制器。
+ * <p>
+ * 以长期平均延迟与本次延迟之比作为梯度（0.5 ~ 1.0）：延迟未上升时梯度为 1，并发上限按 sqrt(limit) 的余量增长；
+ * 延迟上升时梯度小于 1，并发上限随之收缩；任务超时时按照回退系数乘性减小（AIMD）。
+ * 并发数达到上限时直接拒绝，而不是在队列中无限等待。
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+public class AdaptiveLimiter {
+
+    private final WebStarterProperties.ExecutorPool.Limiter config;
+    private final AtomicInteger inflight = new AtomicInteger();
+    /**
+     * 当前的并发上限
+     */
+    private volatile double limit;
+    /**
+     * 长期平均延迟（单位：纳秒），初始为 0 表示尚无样本
+     */
+    private double longRtt;
+
+    public AdaptiveLimiter(WebStarterProperties.ExecutorPool.Limiter config) {
+        this.config = config;
+        this.limit = config.getInitialLimit();
+    }
+
+    /**
+     * 尝试获取执行许可
+     *
+     * @return false 表示并发数已达到上限
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            var current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 释放执行许可，并根据本次延迟调整并发上限
+     *
+     * @param rttNanos 从获取许可到任务结束的耗时
+     * @param dropped  任务是否超时
+     */
+    public void release(long rttNanos, boolean dropped) {
+        var current = inflight.getAndDecrement();
+        this.update(rttNanos, dropped, current);
+    }
+
+    /**
+     * 当前的并发上限
+     *
+     * @return 并发上限
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 当前正在执行的任务数
+     *
+     * @return 任务数
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, boolean dropped, int inflight) {
+        double newLimit;
+        if (dropped) {
+            newLimit = limit * config.getBackoffRatio();
+        } else {
+            longRtt = longRtt == 0 ? rttNanos : longRtt * (1 - config.getRttSmoothing()) + rttNanos * config.getRttSmoothing();
+            // 并发未达到上限的一半时说明负载不足，不再增大上限
+            if (inflight < limit / 2) {
+                return;
+            }
+            var gradient = Math.max(0.5, Math.min(1.0, longRtt / Math.max(rttNanos, 1)));
+            newLimit = limit * gradient + Math.sqrt(limit);
+            newLimit = limit * (1 - config.getSmoothing()) + newLimit * config.getSmoothing();
+        }
+        limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), newLimit));
+    }
+}
@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 描述：将配置信息对外暴露
  *
@@ -19,15 +23,57 @@ public class WebStarterProperties {
      */
     private long asyncTimeout = 60000;
 
+    /**
+     * 调用方超时时间（单位：毫秒）的请求头，异步任务的超时时间不会超过该请求的剩余时间，为空时不启用
+     */
+    private String deadlineHeader = "X-Request-Timeout";
+
+    /**
+     * 调用方超时时间的上限，超过该值时按照上限处理，小于等于 0 的超时时间被忽略
+     */
+    private Duration deadlineMaxTimeout = Duration.ofMinutes(5);
+
     /**
      * 异步任务线程池配置
      */
     @NestedConfigurationProperty
     private ExecutorPool executorPool = new ExecutorPool();
 
+    /**
+     * 按业务隔离的命名线程池，通过 AsyncUtil.async(poolName, ...) 指定，如：export、dashboard
+     */
+    private Map<String, ExecutorPool> executorPools = new LinkedHashMap<>();
+
+    /**
+     * 全局异常处理器的日志限流配置
+     */
+    @NestedConfigurationProperty
+    private ExceptionLog exceptionLog = new ExceptionLog();
+
+    @Setter
+    @Getter
+    public static class ExceptionLog {
+        /**
+         * 是否开启日志限流，开启后业务异常、参数异常的日志按照错误码限流，被忽略的条数在下一条日志中汇总输出
+         */
+        private boolean enabled = true;
+        /**
+         * 限流的时间窗口
+         */
+        private Duration interval = Duration.ofSeconds(1);
+        /**
+         * 每个错误码在一个时间窗口内最多输出的日志条数
+         */
+        private int permits = 10;
+    }
+
     @Setter
     @Getter
     public static class ExecutorPool {
+        /**
+         * 执行器模式，默认为平台线程池
+         */
+        private Mode mode = Mode.PLATFORM;
         /**
          * 核心线程数
          */
@@ -44,5 +90,73 @@ public class WebStarterProperties {
          * 线程名前缀
          */
         private String threadNamePrefix = "Async-Executor-";
+        /**
+         * 平台线程池队列满时的拒绝策略，默认由调用方线程执行
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        /**
+         * 自适应并发限制配置
+         */
+        @NestedConfigurationProperty
+        private Limiter limiter = new Limiter();
+
+        public enum Mode {
+            /**
+             * 平台线程池（核心线程数、最大线程数、队列容量生效），队列满时由调用方线程执行
+             */
+            PLATFORM,
+            /**
+             * 每个任务一个虚拟线程，适用于大量阻塞任务；运行时不支持时回退到 PLATFORM
+             */
+            VIRTUAL,
+            /**
+             * 工作窃取线程池，并行度为最大线程数
+             */
+            FORK_JOIN
+        }
+
+        public enum RejectionPolicy {
+            /**
+             * 由调用方线程执行
+             */
+            CALLER_RUNS,
+            /**
+             * 直接拒绝，异步任务以异常结束
+             */
+            ABORT
+        }
+
+        @Setter
+        @Getter
+        public static class Limiter {
+            /**
+             * 是否开启自适应并发限制，开启后并发数达到上限的任务直接以 TIMEOUT_OR_SYSTEM_ERROR 拒绝
+             */
+            private boolean enabled = false;
+            /**
+             * 初始并发上限
+             */
+            private int initialLimit = 20;
+            /**
+             * 最小并发上限
+             */
+            private int minLimit = 1;
+            /**
+             * 最大并发上限
+             */
+            private int maxLimit = 200;
+            /**
+             * 并发上限的平滑系数，越大调整越快
+             */
+            private double smoothing = 0.2;
+            /**
+             * 长期平均延迟的平滑系数
+             */
+            private double rttSmoothing = 0.05;
+            /**
+             * 任务超时时并发上限的回退系数
+             */
+            private double backoffRatio = 0.9;
+        }
     }
 }
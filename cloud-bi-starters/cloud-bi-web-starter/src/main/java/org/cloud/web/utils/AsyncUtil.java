@@ -2,20 +2,37 @@ package org.cloud.web.utils;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.cloud.web.configurations.AsyncExecutorRegistry;
+import org.cloud.web.configurations.AsyncTaskObserver;
+import org.cloud.web.constants.GenericStatusCode;
 import org.cloud.web.exception.AsyncException;
+import org.cloud.web.exception.BaseException;
+import org.cloud.web.filter.RequestDeadlineFilter;
+import org.cloud.web.limiter.AdaptiveLimiter;
 import org.cloud.web.properties.WebStarterProperties;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * 描述：异步工具类
+ * <p>
+ * 异步任务的超时时间取调用时指定的超时时间（未指定时为全局配置）与当前请求剩余时间的较小值。
+ * 任务超时或被取消时会中断执行任务的线程，配合 dao 模块的 StatementCancelInterceptor 可同时终止正在执行的 SQL。
  *
  * @author Tubetrue01@gmail.com by 2023/5/22
  */
@@ -23,9 +40,18 @@ import java.util.function.Supplier;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @SuppressWarnings("all")
 public class AsyncUtil<T> {
-    private static Executor asyncExecutor;
+    private static final ScheduledThreadPoolExecutor TIMER;
+    private static AsyncExecutorRegistry asyncExecutorRegistry;
+    private static AsyncTaskObserver asyncTaskObserver = AsyncTaskObserver.NOOP;
     private static WebStarterProperties webStarterProperties;
 
+    static {
+        var threadFactory = new CustomizableThreadFactory("Async-Timeout-");
+        threadFactory.setDaemon(true);
+        TIMER = new ScheduledThreadPoolExecutor(1, threadFactory);
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
     /**
      * 异步方法封装
      *
@@ -35,11 +61,20 @@ public class AsyncUtil<T> {
      * @return 返回异步对象
      */
     public static <T> CompletableFuture<T> async(Supplier<T> supplier, DeferredResult... result) {
-        return CompletableFuture.supplyAsync(supplier, asyncExecutor)
-                .orTimeout(webStarterProperties.getAsyncTimeout(), TimeUnit.SECONDS)
-                .exceptionally(e -> {
-                    throw new AsyncException(e, result);
-                });
+        return async(supplier, null, result);
+    }
+
+    /**
+     * 指定超时时间的异步方法封装
+     *
+     * @param supplier 方法的实现
+     * @param timeout  超时时间，为 null 时使用全局配置
+     * @param result   异步响应对象
+     * @param <T>      返回的参数类型
+     * @return 返回异步对象
+     */
+    public static <T> CompletableFuture<T> async(Supplier<T> supplier, Duration timeout, DeferredResult... result) {
+        return submit(AsyncExecutorRegistry.DEFAULT_POOL, supplier, timeout, result);
     }
 
     /**
@@ -50,11 +85,79 @@ public class AsyncUtil<T> {
      * @return 返回空值的异步对象
      */
     public static CompletableFuture<Void> async(Runnable runnable, DeferredResult... result) {
-        return CompletableFuture.runAsync(runnable, asyncExecutor)
-                .orTimeout(webStarterProperties.getAsyncTimeout(), TimeUnit.SECONDS)
-                .exceptionally(e -> {
-                    throw new AsyncException(e, result);
-                });
+        return async(runnable, null, result);
+    }
+
+    /**
+     * 指定超时时间的异步方法封装，当不需要返回值的时候，可以采用该方法
+     *
+     * @param runnable 需要异步执行的任务
+     * @param timeout  超时时间，为 null 时使用全局配置
+     * @param result   异步响应对象
+     * @return 返回空值的异步对象
+     */
+    public static CompletableFuture<Void> async(Runnable runnable, Duration timeout, DeferredResult... result) {
+        return submit(AsyncExecutorRegistry.DEFAULT_POOL, () -> {
+            runnable.run();
+            return null;
+        }, timeout, result);
+    }
+
+    /**
+     * 在指定的线程池中执行异步方法
+     *
+     * @param poolName 线程池名称，即 cloud-bi-web.executor-pools 中配置的名称
+     * @param supplier 方法的实现
+     * @param result   异步响应对象
+     * @param <T>      返回的参数类型
+     * @return 返回异步对象
+     */
+    public static <T> CompletableFuture<T> async(String poolName, Supplier<T> supplier, DeferredResult... result) {
+        return async(poolName, supplier, null, result);
+    }
+
+    /**
+     * 在指定的线程池中执行指定超时时间的异步方法
+     *
+     * @param poolName 线程池名称，即 cloud-bi-web.executor-pools 中配置的名称
+     * @param supplier 方法的实现
+     * @param timeout  超时时间，为 null 时使用全局配置
+     * @param result   异步响应对象
+     * @param <T>      返回的参数类型
+     * @return 返回异步对象
+     */
+    public static <T> CompletableFuture<T> async(String poolName, Supplier<T> supplier, Duration timeout,
+                                                 DeferredResult... result) {
+        return submit(poolName, supplier, timeout, result);
+    }
+
+    /**
+     * 在指定的线程池中执行无返回值的异步任务
+     *
+     * @param poolName 线程池名称，即 cloud-bi-web.executor-pools 中配置的名称
+     * @param runnable 需要异步执行的任务
+     * @param result   异步响应对象
+     * @return 返回空值的异步对象
+     */
+    public static CompletableFuture<Void> async(String poolName, Runnable runnable, DeferredResult... result) {
+        return async(poolName, runnable, null, result);
+    }
+
+    /**
+     * 在指定的线程池中执行指定超时时间、无返回值的异步任务
+     *
+     * @param poolName 线程池名称，即 cloud-bi-web.executor-pools 中配置的名称
+     * @param runnable 需要异步执行的任务
+     * @param timeout  超时时间，为 null 时使用全局配置
+     * @param result   异步响应对象
+     * @return 返回空值的异步对象
+     */
+    public static CompletableFuture<Void> async(String poolName, Runnable runnable, Duration timeout,
+                                                DeferredResult... result) {
+        return submit(poolName, () -> {
+            runnable.run();
+            return null;
+        }, timeout, result);
     }
 
     /**
@@ -62,14 +165,439 @@ public class AsyncUtil<T> {
      *
      * @param completableFutureList 异步任务集合
      */
-    public static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> completableFutureList) {
+    public static CompletableFuture<Void> allOf(List<? extends CompletableFuture<?>> completableFutureList) {
         return CompletableFuture.allOf(completableFutureList.toArray(new CompletableFuture[]{}));
     }
 
+    /**
+     * 等待指定的异步任务完成并按顺序收集结果，任一任务失败时立即失败并取消其余任务
+     *
+     * @param completableFutureList 异步任务集合
+     * @param <T>                   返回的参数类型
+     * @return 返回结果集合的异步对象
+     */
+    public static <T> CompletableFuture<List<T>> collect(List<? extends CompletableFuture<? extends T>> completableFutureList) {
+        var size = completableFutureList.size();
+        var results = new Object[size];
+        var pending = new AtomicInteger(size);
+        var aggregate = new CompletableFuture<List<T>>();
+        if (size == 0) {
+            aggregate.complete(new ArrayList<>());
+            return aggregate;
+        }
+        for (int i = 0; i < size; i++) {
+            var index = i;
+            completableFutureList.get(i).whenComplete((r, e) -> {
+                if (e != null) {
+                    aggregate.completeExceptionally(e);
+                    return;
+                }
+                results[index] = r;
+                if (pending.decrementAndGet() == 0) {
+                    aggregate.complete((List<T>) new ArrayList<>(Arrays.asList(results)));
+                }
+            });
+        }
+        aggregate.whenComplete((r, e) -> {
+            if (e != null) {
+                completableFutureList.forEach(future -> future.cancel(true));
+            }
+        });
+        return aggregate;
+    }
+
+    /**
+     * 并行执行一组任务并按顺序收集结果，所有任务共享同一个截止时间；任一任务失败时立即失败并取消其余任务
+     *
+     * @param supplierList 任务集合
+     * @param timeout      整体超时时间，为 null 时使用全局配置
+     * @param <T>          返回的参数类型
+     * @return 返回结果集合的异步对象
+     */
+    public static <T> CompletableFuture<List<T>> invokeAll(List<? extends Supplier<? extends T>> supplierList, Duration timeout) {
+        return invokeAll(AsyncExecutorRegistry.DEFAULT_POOL, supplierList, timeout);
+    }
+
+    /**
+     * 在指定线程池中并行执行一组任务并按顺序收集结果
+     *
+     * @param poolName     线程池名称
+     * @param supplierList 任务集合
+     * @param timeout      整体超时时间，为 null 时使用全局配置
+     * @param <T>          返回的参数类型
+     * @return 返回结果集合的异步对象
+     */
+    public static <T> CompletableFuture<List<T>> invokeAll(String poolName, List<? extends Supplier<? extends T>> supplierList,
+                                                           Duration timeout) {
+        return AsyncUtil.<Supplier<? extends T>, T>map(poolName, supplierList, Supplier::get, Integer.MAX_VALUE, timeout);
+    }
+
+    /**
+     * 并行执行一组任务，返回第一个成功的结果并取消其余任务；全部失败时以最后一个异常失败
+     *
+     * @param supplierList 任务集合
+     * @param timeout      整体超时时间，为 null 时使用全局配置
+     * @param <T>          返回的参数类型
+     * @return 返回第一个成功结果的异步对象
+     */
+    public static <T> CompletableFuture<T> invokeAny(List<? extends Supplier<? extends T>> supplierList, Duration timeout) {
+        return invokeAny(AsyncExecutorRegistry.DEFAULT_POOL, supplierList, timeout);
+    }
+
+    /**
+     * 在指定线程池中并行执行一组任务，返回第一个成功的结果并取消其余任务
+     *
+     * @param poolName     线程池名称
+     * @param supplierList 任务集合
+     * @param timeout      整体超时时间，为 null 时使用全局配置
+     * @param <T>          返回的参数类型
+     * @return 返回第一个成功结果的异步对象
+     */
+    public static <T> CompletableFuture<T> invokeAny(String poolName, List<? extends Supplier<? extends T>> supplierList,
+                                                     Duration timeout) {
+        var aggregate = new CompletableFuture<T>();
+        if (supplierList.isEmpty()) {
+            aggregate.completeExceptionally(new IllegalArgumentException("supplierList is empty"));
+            return aggregate;
+        }
+        var deadline = deadline(timeout);
+        var pending = new AtomicInteger(supplierList.size());
+        var futures = new ArrayList<CompletableFuture<? extends T>>(supplierList.size());
+        for (Supplier<? extends T> supplier : supplierList) {
+            if (aggregate.isDone()) {
+                break;
+            }
+            CompletableFuture<? extends T> future = submit(poolName, supplier, remaining(deadline));
+            futures.add(future);
+            future.whenComplete((r, e) -> {
+                if (e == null) {
+                    aggregate.complete(r);
+                } else if (pending.decrementAndGet() == 0) {
+                    aggregate.completeExceptionally(e);
+                }
+            });
+        }
+        aggregate.whenComplete((r, e) -> futures.forEach(future -> future.cancel(true)));
+        return aggregate;
+    }
+
+    /**
+     * 以有限的并行度对一组输入执行任务并按顺序收集结果，所有任务共享同一个截止时间；
+     * 任一任务失败时立即失败并取消其余任务，尚未开始的输入不再提交
+     *
+     * @param inputList   输入集合
+     * @param mapper      针对每个输入执行的任务
+     * @param parallelism 最大并行度
+     * @param timeout     整体超时时间，为 null 时使用全局配置
+     * @param <I>         输入的参数类型
+     * @param <T>         返回的参数类型
+     * @return 返回结果集合的异步对象
+     */
+    public static <I, T> CompletableFuture<List<T>> map(List<? extends I> inputList, Function<? super I, ? extends T> mapper,
+                                                        int parallelism, Duration timeout) {
+        return map(AsyncExecutorRegistry.DEFAULT_POOL, inputList, mapper, parallelism, timeout);
+    }
+
+    /**
+     * 在指定线程池中以有限的并行度对一组输入执行任务并按顺序收集结果
+     *
+     * @param poolName    线程池名称
+     * @param inputList   输入集合
+     * @param mapper      针对每个输入执行的任务
+     * @param parallelism 最大并行度
+     * @param timeout     整体超时时间，为 null 时使用全局配置
+     * @param <I>         输入的参数类型
+     * @param <T>         返回的参数类型
+     * @return 返回结果集合的异步对象
+     */
+    public static <I, T> CompletableFuture<List<T>> map(String poolName, List<? extends I> inputList,
+                                                        Function<? super I, ? extends T> mapper, int parallelism,
+                                                        Duration timeout) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        var fanOut = new FanOut<I, T>(poolName, inputList, mapper, deadline(timeout));
+        if (inputList.isEmpty()) {
+            fanOut.aggregate.complete(new ArrayList<>());
+        }
+        for (int i = 0, n = Math.min(parallelism, inputList.size()); i < n; i++) {
+            fanOut.launch();
+        }
+        return fanOut.aggregate;
+    }
+
+    /**
+     * 提交任务，超时后中断执行线程；返回的异步对象被取消时同样中断执行线程。
+     * 开启自适应并发限制时，并发数达到上限的任务直接以 TIMEOUT_OR_SYSTEM_ERROR 拒绝；
+     * 许可一直占用到执行线程结束，超时的任务在线程仍然阻塞期间继续计入并发数
+     */
+    private static <T> CompletableFuture<T> submit(String poolName, Supplier<T> supplier, Duration timeout,
+                                                   DeferredResult... result) {
+        var executor = asyncExecutorRegistry.get(poolName);
+        var limiter = asyncExecutorRegistry.getLimiter(poolName);
+        // 不在请求线程中发起（如：定时任务）时与未匹配到路径模板使用同一个值
+        var uri = Objects.requireNonNullElse(WebUtil.getCurrentRequestPattern(), WebUtil.UNKNOWN_PATTERN);
+        var task = new CancellableTask<>(supplier, poolName, uri);
+        var timeoutMillis = timeoutMillis(timeout);
+        if (timeoutMillis <= 0) {
+            task.future.completeExceptionally(new TimeoutException());
+        } else if (limiter != null && !limiter.tryAcquire()) {
+            asyncTaskObserver.onRejected(poolName, uri, "limit");
+            task.future.completeExceptionally(new CompletionException(
+                    new BaseException(GenericStatusCode.TIMEOUT_OR_SYSTEM_ERROR)));
+        } else {
+            // 许可在执行线程真正结束（或任务未开始执行）时释放，而不是在异步对象超时完成时释放
+            task.limiter = limiter;
+            var timer = TIMER.schedule(task::timeout, timeoutMillis, TimeUnit.MILLISECONDS);
+            task.future.whenComplete((r, e) -> timer.cancel(false));
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.release();
+                asyncTaskObserver.onRejected(poolName, uri, "rejected");
+                task.future.completeExceptionally(new CompletionException(e));
+            }
+        }
+        task.future.whenComplete((r, e) -> {
+            if (e instanceof TimeoutException) {
+                asyncTaskObserver.onTimeout(poolName, uri);
+            }
+            if (e != null) {
+                task.interrupt();
+            }
+        });
+
+        CompletableFuture<T> future = task.future.exceptionally(e -> {
+            throw new AsyncException(e, result);
+        });
+        future.whenComplete((r, e) -> {
+            if (e instanceof CancellationException) {
+                task.future.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 计算一组任务共享的截止时间（System.nanoTime 基准）
+     *
+     * @param timeout 调用时指定的超时时间
+     */
+    private static long deadline(Duration timeout) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis(timeout));
+    }
+
+    /**
+     * 计算距离截止时间的剩余时间
+     *
+     * @param deadline 截止时间
+     */
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    /**
+     * 计算本次任务的超时时间（单位：毫秒），不超过当前请求的剩余时间
+     *
+     * @param timeout 调用时指定的超时时间
+     */
+    private static long timeoutMillis(Duration timeout) {
+        var millis = timeout != null ? timeout.toMillis() : webStarterProperties.getAsyncTimeout();
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return millis;
+        }
+        try {
+            var deadline = attributes.getAttribute(RequestDeadlineFilter.DEADLINE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (deadline instanceof Long) {
+                var remaining = TimeUnit.NANOSECONDS.toMillis((Long) deadline - System.nanoTime());
+                return Math.min(millis, remaining);
+            }
+        } catch (IllegalStateException ignored) {
+            // 请求已结束，不再受请求截止时间约束
+        }
+        return millis;
+    }
+
+    /**
+     * 可中断的任务，记录执行线程以便超时或取消时中断；持有并发限制的许可时，在执行线程结束或任务未开始执行时释放
+     *
+     * @param <T> 返回的参数类型
+     */
+    private static class CancellableTask<T> implements Runnable {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final Supplier<T> supplier;
+        private final String pool;
+        private final String uri;
+        private final Thread submitter = Thread.currentThread();
+        private final long submittedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private Thread runner;
+        /**
+         * 获取到的并发限制器，未开启并发限制时为 null
+         */
+        private AdaptiveLimiter limiter;
+        /**
+         * 是否因超时结束，作为并发限制器的回退信号
+         */
+        private volatile boolean timedOut;
+
+        private CancellableTask(Supplier<T> supplier, String pool, String uri) {
+            this.supplier = supplier;
+            this.pool = pool;
+            this.uri = uri;
+        }
+
+        @Override
+        public void run() {
+            // 排队期间已超时或被取消
+            if (future.isDone()) {
+                release();
+                return;
+            }
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            var startedAt = System.nanoTime();
+            asyncTaskObserver.onStart(pool, uri, startedAt - submittedAt, runner == submitter);
+            Throwable error = null;
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                error = e;
+                // 与 supplyAsync 保持一致，使用 CompletionException 包装原始异常
+                future.completeExceptionally(new CompletionException(e));
+            } finally {
+                asyncTaskObserver.onComplete(pool, uri, System.nanoTime() - startedAt, error);
+                synchronized (this) {
+                    runner = null;
+                    // 清除迟到的中断标识，避免影响该线程执行的下一个任务
+                    Thread.interrupted();
+                }
+                release();
+            }
+        }
+
+        /**
+         * 超时结束任务，标记为超时后再完成异步对象，保证执行线程结束时能读取到超时标识
+         */
+        private void timeout() {
+            if (!future.isDone()) {
+                timedOut = true;
+                future.completeExceptionally(new TimeoutException());
+            }
+        }
+
+        /**
+         * 释放并发限制的许可，只释放一次；延迟为获取许可到执行线程结束的耗时
+         */
+        private void release() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - submittedAt, timedOut);
+            }
+        }
+
+        private synchronized void interrupt() {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+
+    /**
+     * 有限并行度的任务分发，一个任务结束后再提交下一个输入
+     */
+    private static class FanOut<I, T> {
+        private final CompletableFuture<List<T>> aggregate = new CompletableFuture<>();
+        private final AtomicInteger next = new AtomicInteger();
+        /**
+         * 尚未处理的提交请求数
+         */
+        private final AtomicInteger requested = new AtomicInteger();
+        private final AtomicInteger pending;
+        private final String poolName;
+        private final List<? extends I> inputList;
+        private final Function<? super I, ? extends T> mapper;
+        private final long deadline;
+        private final Object[] results;
+        private final CompletableFuture<?>[] futures;
+
+        private FanOut(String poolName, List<? extends I> inputList, Function<? super I, ? extends T> mapper, long deadline) {
+            this.poolName = poolName;
+            this.inputList = inputList;
+            this.mapper = mapper;
+            this.deadline = deadline;
+            this.pending = new AtomicInteger(inputList.size());
+            this.results = new Object[inputList.size()];
+            this.futures = new CompletableFuture[inputList.size()];
+            aggregate.whenComplete((r, e) -> {
+                if (e != null) {
+                    cancel();
+                }
+            });
+        }
+
+        /**
+         * 请求提交下一个输入。任务同步完成（如：线程池饱和由调用方线程执行）时会在回调中再次请求提交，
+         * 为避免递归导致栈溢出，由当前正在提交的线程循环处理累计的请求，其余调用只累加请求数后返回
+         */
+        private void launch() {
+            if (requested.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                launchNext();
+            } while (requested.decrementAndGet() != 0);
+        }
+
+        private void launchNext() {
+            var index = next.getAndIncrement();
+            if (index >= inputList.size() || aggregate.isDone()) {
+                return;
+            }
+            I input = inputList.get(index);
+            CompletableFuture<? extends T> future = submit(poolName, () -> mapper.apply(input), remaining(deadline));
+            synchronized (futures) {
+                futures[index] = future;
+            }
+            // 提交期间已经失败，取消刚提交的任务
+            if (aggregate.isDone()) {
+                future.cancel(true);
+            }
+            future.whenComplete((r, e) -> {
+                if (e != null) {
+                    aggregate.completeExceptionally(e);
+                    return;
+                }
+                results[index] = r;
+                if (pending.decrementAndGet() == 0) {
+                    aggregate.complete((List<T>) new ArrayList<>(Arrays.asList(results)));
+                } else {
+                    launch();
+                }
+            });
+        }
+
+        private void cancel() {
+            synchronized (futures) {
+                for (var future : futures) {
+                    if (future != null) {
+                        future.cancel(true);
+                    }
+                }
+            }
+        }
+    }
+
     //------------------------------- 静态注入的一些辅助方法 -------------------------------//
+    @Autowired(required = false)
+    private void asyncTaskObserver(AsyncTaskObserver asyncTaskObserver) {
+        setAsyncTaskObserver(asyncTaskObserver);
+    }
+
     @Autowired
-    private void asyncExecutor(Executor asyncExecutor) {
-        setAsyncExecutor(asyncExecutor);
+    private void asyncExecutorRegistry(AsyncExecutorRegistry asyncExecutorRegistry) {
+        setAsyncExecutorRegistry(asyncExecutorRegistry);
     }
 
     @Autowired
@@ -81,8 +609,12 @@ public class AsyncUtil<T> {
         AsyncUtil.webStarterProperties = webStarterProperties;
     }
 
-    private static void setAsyncExecutor(Executor asyncExecutor) {
-        AsyncUtil.asyncExecutor = asyncExecutor;
+    private static void setAsyncExecutorRegistry(AsyncExecutorRegistry asyncExecutorRegistry) {
+        AsyncUtil.asyncExecutorRegistry = asyncExecutorRegistry;
+    }
+
+    private static void setAsyncTaskObserver(AsyncTaskObserver asyncTaskObserver) {
+        AsyncUtil.asyncTaskObserver = asyncTaskObserver;
     }
 
 }
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.Optional;
@@ -36,6 +37,24 @@ public final class WebUtil {
         return getCurrentRequest().map(HttpServletRequest::getRequestURI).orElse(null);
     }
 
+    /**
+     * 未匹配到路径模板或不在请求线程中时使用的值，如：异步任务指标的 uri 标签
+     */
+    public static final String UNKNOWN_PATTERN = "UNKNOWN";
+
+    /**
+     * 获取当前请求匹配的路径模板（如：/user/{id}），用作指标标签时可避免基数过大；
+     * 未匹配到处理器时返回 {@link #UNKNOWN_PATTERN}，而不是原始的 url
+     *
+     * @return 如果不存在返回 null
+     */
+    public static String getCurrentRequestPattern() {
+        return getCurrentRequest().map((HttpServletRequest s) -> {
+            var pattern = s.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return pattern != null ? pattern.toString() : UNKNOWN_PATTERN;
+        }).orElse(null);
+    }
+
     /**
      * 获取当前请求的 header 头内容
      *
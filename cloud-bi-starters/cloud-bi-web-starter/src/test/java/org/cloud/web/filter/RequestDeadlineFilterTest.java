@@ -0,0 +1,64 @@
+package org.cloud.web.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：请求截止时间过滤器对超时时间的解析与限制
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class RequestDeadlineFilterTest {
+
+    private static final String HEADER = "X-Request-Timeout";
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(HEADER, Duration.ofMinutes(5));
+
+    @Test
+    void validTimeoutSetsDeadline() throws Exception {
+        var before = System.nanoTime();
+        var deadline = filter("1500");
+
+        assertNotNull(deadline);
+        assertTrue(deadline - before >= TimeUnit.MILLISECONDS.toNanos(1500));
+        assertTrue(deadline - before < TimeUnit.MINUTES.toNanos(1));
+    }
+
+    @Test
+    void hugeTimeoutIsClamped() throws Exception {
+        var before = System.nanoTime();
+        var deadline = filter(String.valueOf(Long.MAX_VALUE));
+
+        assertNotNull(deadline);
+        // 未限制时 nanoTime + toNanos(Long.MAX_VALUE) 会溢出为过去的时间
+        assertTrue(deadline - before > 0);
+        assertTrue(deadline - before <= TimeUnit.MINUTES.toNanos(5) + TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void nonPositiveOrInvalidTimeoutIsIgnored() throws Exception {
+        assertNull(filter("0"));
+        assertNull(filter("-100"));
+        assertNull(filter(String.valueOf(Long.MIN_VALUE)));
+        assertNull(filter("abc"));
+        assertNull(filter(null));
+    }
+
+    private Long filter(String timeout) throws Exception {
+        var request = new MockHttpServletRequest();
+        if (timeout != null) {
+            request.addHeader(HEADER, timeout);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return (Long) request.getAttribute(RequestDeadlineFilter.DEADLINE_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,114 @@
+package org.cloud.web.limiter;
+
+import org.cloud.web.properties.WebStarterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：自适应并发限制器对模拟后端延迟变化的响应：后端并发超过容量后延迟按比例上升，
+ * 调用方持续压测（获取到许可即发起请求），按照虚拟时间依次结束任务并释放许可
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class AdaptiveLimiterTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int MAX_LIMIT = 200;
+
+    private AdaptiveLimiter limiter;
+    private FakeBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        var config = new WebStarterProperties.ExecutorPool.Limiter();
+        config.setInitialLimit(20);
+        config.setMinLimit(1);
+        config.setMaxLimit(MAX_LIMIT);
+        limiter = new AdaptiveLimiter(config);
+        backend = new FakeBackend();
+    }
+
+    @Test
+    void limitGrowsWhileLatencyIsFlat() {
+        backend.run(1000, Long.MAX_VALUE);
+
+        assertEquals(MAX_LIMIT, limiter.getLimit());
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRisesPastCapacity() {
+        backend.run(1000, Long.MAX_VALUE);
+        assertEquals(MAX_LIMIT, limiter.getLimit());
+
+        // 容量降为 50，并发为 200 时延迟上升到 4 倍
+        backend.capacity = 50;
+        var lowest = backend.run(1000, Long.MAX_VALUE);
+
+        assertTrue(lowest < 100, "lowest limit: " + lowest);
+    }
+
+    @Test
+    void limitShrinksOnTimeouts() {
+        backend.run(1000, Long.MAX_VALUE);
+
+        // 超过容量的请求全部超时
+        backend.capacity = 50;
+        var lowest = backend.run(1000, BASE_RTT * 2);
+
+        assertTrue(lowest < 20, "lowest limit: " + lowest);
+    }
+
+    @Test
+    void limitRecoversWhenLatencyRecovers() {
+        backend.run(1000, Long.MAX_VALUE);
+        backend.capacity = 50;
+        backend.run(1000, BASE_RTT * 2);
+        var shrunk = limiter.getLimit();
+        assertTrue(shrunk < MAX_LIMIT, "limit after timeouts: " + shrunk);
+
+        backend.capacity = Integer.MAX_VALUE;
+        backend.run(2000, Long.MAX_VALUE);
+
+        assertEquals(MAX_LIMIT, limiter.getLimit());
+    }
+
+    /**
+     * 模拟后端：并发不超过容量时延迟为 BASE_RTT，超过容量后延迟与并发成正比
+     */
+    private class FakeBackend {
+        private final PriorityQueue<long[]> running = new PriorityQueue<>(Comparator.comparingLong(task -> task[0]));
+        private int capacity = Integer.MAX_VALUE;
+        private long now;
+
+        /**
+         * 持续压测一段虚拟时间
+         *
+         * @param millis  压测的时长
+         * @param timeout 超时时间，超过时按照超时释放许可
+         * @return 期间观察到的最小并发上限
+         */
+        private int run(long millis, long timeout) {
+            var until = now + TimeUnit.MILLISECONDS.toNanos(millis);
+            var lowest = limiter.getLimit();
+            while (now < until) {
+                while (limiter.tryAcquire()) {
+                    var rtt = BASE_RTT * Math.max(1.0, (double) limiter.getInflight() / capacity);
+                    running.add(new long[]{now + Math.min((long) rtt, timeout), (long) rtt});
+                }
+                var task = running.poll();
+                now = task[0];
+                var dropped = task[1] > timeout;
+                limiter.release(dropped ? timeout : task[1], dropped);
+                lowest = Math.min(lowest, limiter.getLimit());
+            }
+            return lowest;
+        }
+    }
+}
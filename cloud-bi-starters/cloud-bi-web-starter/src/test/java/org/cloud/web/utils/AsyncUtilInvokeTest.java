@@ -0,0 +1,204 @@
+package org.cloud.web.utils;
+
+import org.cloud.web.configurations.AsyncExecutorRegistry;
+import org.cloud.web.properties.WebStarterProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：invokeAll / invokeAny / map 的快速失败、取消其余任务以及共享截止时间
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class AsyncUtilInvokeTest {
+
+    private ThreadPoolTaskExecutor executor;
+    /**
+     * 被中断的任务编号 -> 被中断的时间（System.nanoTime）
+     */
+    private final Map<Integer, Long> interrupted = new ConcurrentHashMap<>();
+    private final Set<Integer> started = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setThreadNamePrefix("Async-Test-");
+        executor.initialize();
+        var registry = new AsyncExecutorRegistry(executor, new WebStarterProperties.ExecutorPool(), Map.of());
+        ReflectionTestUtils.setField(AsyncUtil.class, "asyncExecutorRegistry", registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @Timeout(10)
+    void invokeAllFailsFastAndInterruptsSiblings() throws Exception {
+        var siblingsStarted = new CountDownLatch(2);
+        var future = AsyncUtil.invokeAll(List.of(
+                () -> {
+                    awaitQuietly(siblingsStarted);
+                    throw new IllegalStateException("first failure");
+                },
+                () -> blockUntilInterrupted(1, siblingsStarted),
+                () -> blockUntilInterrupted(2, siblingsStarted)), Duration.ofSeconds(30));
+
+        var error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(hasCause(error, IllegalStateException.class), error.toString());
+        awaitInterrupted(1, 2);
+    }
+
+    @Test
+    @Timeout(10)
+    void mapFailsFastAndStopsSubmitting() throws Exception {
+        var siblingStarted = new CountDownLatch(1);
+        var future = AsyncUtil.map(IntStream.range(0, 6).boxed().collect(Collectors.toList()), i -> {
+            started.add(i);
+            if (i == 0) {
+                awaitQuietly(siblingStarted);
+                throw new IllegalStateException("first failure");
+            }
+            return blockUntilInterrupted(i, siblingStarted);
+        }, 2, Duration.ofSeconds(30));
+
+        var error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(hasCause(error, IllegalStateException.class), error.toString());
+        awaitInterrupted(1);
+        // 失败后尚未开始的输入不再提交
+        assertEquals(Set.of(0, 1), started);
+    }
+
+    @Test
+    @Timeout(10)
+    void invokeAnyReturnsFirstSuccessAndCancelsRest() throws Exception {
+        var slowStarted = new CountDownLatch(2);
+        var future = AsyncUtil.invokeAny(List.<Supplier<String>>of(
+                () -> blockUntilInterrupted(0, slowStarted),
+                () -> {
+                    awaitQuietly(slowStarted);
+                    return "fast";
+                },
+                () -> blockUntilInterrupted(2, slowStarted)), Duration.ofSeconds(30));
+
+        assertEquals("fast", future.get(5, TimeUnit.SECONDS));
+        awaitInterrupted(0, 2);
+    }
+
+    @Test
+    @Timeout(10)
+    void invokeAnySkipsFailuresUntilSuccess() throws Exception {
+        var future = AsyncUtil.invokeAny(List.<Supplier<String>>of(
+                () -> {
+                    throw new IllegalStateException("failure");
+                },
+                () -> "success"), Duration.ofSeconds(30));
+
+        assertEquals("success", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @Timeout(10)
+    void allBranchesTimeOutTogetherAtSharedDeadline() throws Exception {
+        var begin = System.nanoTime();
+        var future = AsyncUtil.invokeAll(IntStream.range(0, 4)
+                .<Supplier<String>>mapToObj(i -> () -> blockUntilInterrupted(i, null))
+                .collect(Collectors.toList()), Duration.ofMillis(300));
+
+        var error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(hasCause(error, TimeoutException.class), error.toString());
+        awaitInterrupted(0, 1, 2, 3);
+        for (var at : interrupted.values()) {
+            var elapsed = TimeUnit.NANOSECONDS.toMillis(at - begin);
+            assertTrue(elapsed >= 250 && elapsed < 1000, "interrupted after " + elapsed + "ms");
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void laterInputsShareTheRemainingTime() {
+        var begin = System.nanoTime();
+        // 串行执行，每个输入耗时 400 毫秒；单独计算超时时间时每个输入都能完成，共享截止时间时第二个输入超时
+        var future = AsyncUtil.map(List.of(0, 1, 2), i -> {
+            sleepQuietly(400);
+            return i;
+        }, 1, Duration.ofMillis(600));
+
+        var error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(hasCause(error, TimeoutException.class), error.toString());
+        var elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        assertTrue(elapsed < 1100, "failed after " + elapsed + "ms");
+    }
+
+    /**
+     * 阻塞直到被中断，记录被中断的时间
+     */
+    private String blockUntilInterrupted(int index, CountDownLatch startedLatch) {
+        if (startedLatch != null) {
+            startedLatch.countDown();
+        }
+        try {
+            TimeUnit.SECONDS.sleep(30);
+        } catch (InterruptedException e) {
+            interrupted.put(index, System.nanoTime());
+        }
+        return "interrupted";
+    }
+
+    private void awaitInterrupted(Integer... indexes) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!interrupted.keySet().containsAll(List.of(indexes)) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        assertTrue(interrupted.keySet().containsAll(List.of(indexes)), "interrupted: " + interrupted.keySet());
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.cloud.web.utils;
+
+import org.cloud.web.configurations.AsyncExecutorRegistry;
+import org.cloud.web.limiter.AdaptiveLimiter;
+import org.cloud.web.properties.WebStarterProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 描述：自适应并发限制下异步任务的许可释放：超时的任务在执行线程结束前继续占用许可
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class AsyncUtilLimiterTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private AdaptiveLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setThreadNamePrefix("Async-Test-");
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @Timeout(10)
+    void timedOutTaskHoldsPermitUntilWorkerFinishes() throws Exception {
+        register(2, 2);
+        var release = new CountDownLatch(1);
+        var blocked = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < 2; i++) {
+            blocked.add(AsyncUtil.async(() -> awaitUninterruptibly(release), Duration.ofMillis(50)));
+        }
+        for (var future : blocked) {
+            assertTrue(awaitCompletion(future));
+            assertTrue(future.isCompletedExceptionally());
+        }
+
+        // 异步对象已超时完成，但执行线程仍然阻塞，许可没有释放
+        assertEquals(2, limiter.getInflight());
+        var rejected = AsyncUtil.async(() -> "rejected", Duration.ofSeconds(1));
+        assertTrue(awaitCompletion(rejected));
+        assertTrue(rejected.isCompletedExceptionally());
+
+        release.countDown();
+        while (limiter.getInflight() > 0) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        // 超时作为回退信号收缩并发上限
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    @Timeout(30)
+    void concurrentLoadNeverExceedsLimit() throws Exception {
+        register(8, 8);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var callers = Executors.newFixedThreadPool(32);
+        var futures = new ArrayList<CompletableFuture<Integer>>();
+        var submitted = new CountDownLatch(32);
+        try {
+            for (int c = 0; c < 32; c++) {
+                callers.execute(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        var slow = i % 5 == 0;
+                        var future = AsyncUtil.async(() -> {
+                            var current = running.incrementAndGet();
+                            maxRunning.accumulateAndGet(current, Math::max);
+                            sleepUninterruptibly(slow ? 30 : 1);
+                            running.decrementAndGet();
+                            return current;
+                        }, Duration.ofMillis(20));
+                        synchronized (futures) {
+                            futures.add(future);
+                        }
+                    }
+                    submitted.countDown();
+                });
+            }
+            submitted.await();
+        } finally {
+            callers.shutdown();
+        }
+
+        var succeeded = 0;
+        var failed = 0;
+        for (var future : futures) {
+            assertTrue(awaitCompletion(future));
+            if (future.isCompletedExceptionally()) {
+                failed++;
+            } else {
+                succeeded++;
+            }
+        }
+        while (limiter.getInflight() > 0) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+
+        assertEquals(32 * 50, succeeded + failed);
+        assertTrue(succeeded > 0);
+        // 超时任务的执行线程仍然计入并发数，实际并发从不超过并发上限
+        assertTrue(maxRunning.get() <= 8, "max running: " + maxRunning.get());
+        assertEquals(0, running.get());
+    }
+
+    private void register(int initialLimit, int maxLimit) {
+        var pool = new WebStarterProperties.ExecutorPool();
+        pool.getLimiter().setEnabled(true);
+        pool.getLimiter().setInitialLimit(initialLimit);
+        pool.getLimiter().setMaxLimit(maxLimit);
+        pool.getLimiter().setMinLimit(1);
+        var registry = new AsyncExecutorRegistry(executor, pool, Map.of());
+        limiter = registry.getLimiter(AsyncExecutorRegistry.DEFAULT_POOL);
+        ReflectionTestUtils.setField(AsyncUtil.class, "asyncExecutorRegistry", registry);
+    }
+
+    private static boolean awaitCompletion(CompletableFuture<?> future) {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (Exception ignored) {
+            // 异常结束
+        }
+        return future.isDone();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // 模拟不响应中断的阻塞调用
+            }
+        }
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+            } catch (InterruptedException ignored) {
+                // 模拟不响应中断的阻塞调用
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.cloud.web.utils;
+
+import org.cloud.web.configurations.AsyncExecutorRegistry;
+import org.cloud.web.properties.WebStarterProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 描述：有限并行度的任务分发在任务同步完成时不会递归提交
+ *
+ * @author Tubetrue01@gmail.com by 2026/10/18
+ */
+class AsyncUtilMapTest {
+
+    @Test
+    @Timeout(30)
+    void synchronousCompletionDoesNotOverflowStack() {
+        // 由调用方线程直接执行，等同于线程池饱和时的 CALLER_RUNS
+        Executor callerRuns = Runnable::run;
+        var registry = new AsyncExecutorRegistry(callerRuns, new WebStarterProperties.ExecutorPool(), Map.of());
+        ReflectionTestUtils.setField(AsyncUtil.class, "asyncExecutorRegistry", registry);
+        var inputList = IntStream.range(0, 20000).boxed().collect(Collectors.toList());
+
+        var results = AsyncUtil.map(inputList, i -> i * 2, 1, Duration.ofSeconds(20)).join();
+
+        assertEquals(inputList.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i * 2, results.get(i));
+        }
+    }
+}